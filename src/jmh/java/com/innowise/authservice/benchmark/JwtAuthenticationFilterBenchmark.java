@@ -0,0 +1,102 @@
+package com.innowise.authservice.benchmark;
+
+import com.innowise.authservice.cache.TokenRevocationCache;
+import com.innowise.authservice.config.security.AuthUserDetails;
+import com.innowise.authservice.config.security.JwtAuthenticationFilter;
+import com.innowise.authservice.config.security.ValidationMode;
+import com.innowise.authservice.service.CustomUserDetailsService;
+import com.innowise.authservice.service.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Threads(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"HS256", "HS384", "HS512", "RS256", "ES256"})
+    private String algorithm;
+
+    @Param({"STRICT", "STATELESS"})
+    private ValidationMode validationMode;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtService jwtService = JwtBenchmarkFixtures.jwtService(algorithm);
+        AuthUserDetails userDetails = JwtBenchmarkFixtures.userDetails();
+        filter = new JwtAuthenticationFilter(jwtService, new FixedUserDetailsService(userDetails),
+                new TokenRevocationCache(new SimpleMeterRegistry(), 100_000, 0.001));
+        ReflectionTestUtils.setField(filter, "validationMode", validationMode);
+        authorization = "Bearer " + jwtService.generateTokens(userDetails).getAccessToken();
+    }
+
+    @State(Scope.Thread)
+    public static class Exchange {
+
+        private MockHttpServletRequest request;
+        private MockHttpServletResponse response;
+        private FilterChain chain;
+
+        @Setup(Level.Iteration)
+        public void setUp(JwtAuthenticationFilterBenchmark benchmark, Blackhole blackhole) {
+            request = new MockHttpServletRequest("GET", "/api/v1/admin/users");
+            request.addHeader("Authorization", benchmark.authorization);
+            response = new MockHttpServletResponse();
+            chain = (filteredRequest, filteredResponse) -> {
+                blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+                SecurityContextHolder.clearContext();
+            };
+        }
+    }
+
+    @Benchmark
+    public void doFilter(Exchange exchange) throws Exception {
+        filter.doFilter(exchange.request, exchange.response, exchange.chain);
+    }
+
+    private record FixedUserDetailsService(AuthUserDetails userDetails)
+            implements CustomUserDetailsService {
+
+        @Override
+        public AuthUserDetails loadUserByUsername(String username) {
+            return userDetails;
+        }
+
+        @Override
+        public Map<String, AuthUserDetails> loadUsersByUsernames(Collection<String> usernames) {
+            return Map.of(userDetails.getUsername(), userDetails);
+        }
+
+        @Override
+        public void evictUser(String username) {
+        }
+    }
+}
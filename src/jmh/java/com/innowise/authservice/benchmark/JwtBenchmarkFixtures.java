@@ -0,0 +1,81 @@
+package com.innowise.authservice.benchmark;
+
+import com.innowise.authservice.cache.TokenVersionCache;
+import com.innowise.authservice.config.security.AuthUserDetails;
+import com.innowise.authservice.mapper.TokenResponseMapper;
+import com.innowise.authservice.model.entity.AuthUser;
+import com.innowise.authservice.model.entity.type.Role;
+import com.innowise.authservice.service.impl.JwtServiceImpl;
+import com.innowise.authservice.service.jwt.HmacJwtCodec;
+import com.innowise.authservice.service.jwt.JwtKeyring;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.UUID;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+final class JwtBenchmarkFixtures {
+
+    static final String KEY_ID = "benchmark";
+
+    private JwtBenchmarkFixtures() {
+    }
+
+    static JwtServiceImpl jwtService(String algorithm) throws GeneralSecurityException {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("jwt.signing-key-id", KEY_ID)
+                .withProperty("jwt.keys[0].kid", KEY_ID)
+                .withProperty("jwt.keys[0].algorithm", algorithm);
+        if (algorithm.startsWith("HS")) {
+            environment.setProperty("jwt.keys[0].secret", "0123456789abcdef".repeat(4));
+        } else {
+            KeyPair keyPair = keyPair(algorithm);
+            environment.setProperty("jwt.keys[0].private-key",
+                    pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+            environment.setProperty("jwt.keys[0].public-key",
+                    pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        }
+        JwtKeyring jwtKeyring = new JwtKeyring(environment);
+        JwtServiceImpl jwtService = new JwtServiceImpl(new TokenResponseMapper(), jwtKeyring,
+                new HmacJwtCodec(jwtKeyring),
+                new TokenVersionCache(new SimpleMeterRegistry(), 1024));
+        ReflectionTestUtils.setField(jwtService, "tokenExpiration", 900000L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 86400000L);
+        return jwtService;
+    }
+
+    static AuthUserDetails userDetails() {
+        AuthUser user = new AuthUser();
+        user.setId(UUID.randomUUID());
+        user.setUsername("benchmark-user");
+        user.setEmail("benchmark-user@example.com");
+        user.setPassword("password");
+        user.setRole(Role.USER);
+        return new AuthUserDetails(user);
+    }
+
+    private static KeyPair keyPair(String algorithm) throws GeneralSecurityException {
+        if (algorithm.startsWith("RS")) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        }
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec(switch (algorithm) {
+            case "ES384" -> "secp384r1";
+            case "ES512" -> "secp521r1";
+            default -> "secp256r1";
+        }));
+        return generator.generateKeyPair();
+    }
+
+    private static String pem(String type, byte[] encoded) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(encoded)
+                + "\n-----END " + type + "-----";
+    }
+}
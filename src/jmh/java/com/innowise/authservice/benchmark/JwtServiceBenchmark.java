@@ -0,0 +1,81 @@
+package com.innowise.authservice.benchmark;
+
+import com.innowise.authservice.config.security.AuthUserDetails;
+import com.innowise.authservice.model.dto.response.TokenResponse;
+import com.innowise.authservice.model.entity.type.Role;
+import com.innowise.authservice.model.entity.type.TokenType;
+import com.innowise.authservice.model.token.VerifiedToken;
+import com.innowise.authservice.service.impl.JwtServiceImpl;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Threads(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    @Param({"HS256", "HS384", "HS512", "RS256", "ES256"})
+    private String algorithm;
+
+    private JwtServiceImpl jwtService;
+    private AuthUserDetails userDetails;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtService = JwtBenchmarkFixtures.jwtService(algorithm);
+        userDetails = JwtBenchmarkFixtures.userDetails();
+        accessToken = jwtService.generateTokens(userDetails).getAccessToken();
+    }
+
+    @Benchmark
+    public TokenResponse generateTokens() {
+        return jwtService.generateTokens(userDetails);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyToken() {
+        return jwtService.verifyToken(accessToken);
+    }
+
+    @Benchmark
+    public void validateToken() {
+        jwtService.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(accessToken);
+    }
+
+    @Benchmark
+    public UUID extractUserId() {
+        return jwtService.extractUserId(accessToken);
+    }
+
+    @Benchmark
+    public Role extractRole() {
+        return jwtService.extractRole(accessToken);
+    }
+
+    @Benchmark
+    public TokenType extractTokenType() {
+        return jwtService.extractTokenType(accessToken);
+    }
+}
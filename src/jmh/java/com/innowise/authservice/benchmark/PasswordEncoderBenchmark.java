@@ -0,0 +1,76 @@
+package com.innowise.authservice.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Threads(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "correct-horse-battery-staple";
+
+    @Param({
+            "bcrypt-10", "bcrypt-11", "bcrypt-12", "bcrypt-13",
+            "argon2id-m19456-t2-p1", "argon2id-m65536-t3-p4",
+            "scrypt-n16384-r8-p1", "scrypt-n131072-r8-p1"
+    })
+    private String encoder;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = create(encoder);
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+
+    static PasswordEncoder create(String spec) {
+        String[] parts = spec.split("-");
+        return switch (parts[0]) {
+            case "bcrypt" -> new BCryptPasswordEncoder(Integer.parseInt(parts[1]));
+            case "argon2id" -> new Argon2PasswordEncoder(16, 32, parameter(parts[3], "p"),
+                    parameter(parts[1], "m"), parameter(parts[2], "t"));
+            case "scrypt" -> new SCryptPasswordEncoder(parameter(parts[1], "n"),
+                    parameter(parts[2], "r"), parameter(parts[3], "p"), 32, 16);
+            default -> throw new IllegalArgumentException("Unknown encoder: " + spec);
+        };
+    }
+
+    private static int parameter(String part, String name) {
+        if (!part.startsWith(name)) {
+            throw new IllegalArgumentException("Expected parameter " + name + " in " + part);
+        }
+        return Integer.parseInt(part.substring(name.length()));
+    }
+}
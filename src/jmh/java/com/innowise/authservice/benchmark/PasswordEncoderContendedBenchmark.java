@@ -0,0 +1,7 @@
+package com.innowise.authservice.benchmark;
+
+import org.openjdk.jmh.annotations.Threads;
+
+@Threads(Threads.MAX)
+public class PasswordEncoderContendedBenchmark extends PasswordEncoderBenchmark {
+}
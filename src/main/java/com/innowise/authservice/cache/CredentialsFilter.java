@@ -0,0 +1,141 @@
+package com.innowise.authservice.cache;
+
+import com.innowise.authservice.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CredentialsFilter {
+
+    private static final long SNAPSHOT_MAGIC = 0x4352454446494C31L;
+    private static final int SNAPSHOT_HEADER_BYTES = 32;
+    private static final long EMAIL_SALT = 0x2545F4914F6CDD1DL;
+
+    private final Counter negativeCounter;
+    private volatile BloomFilter filter;
+
+    public CredentialsFilter(MeterRegistry meterRegistry) {
+        Gauge.builder("auth.credentials-filter.false-positive-rate", this,
+                        CredentialsFilter::expectedFalsePositiveRate)
+                .register(meterRegistry);
+        this.negativeCounter = Counter.builder("auth.credentials-filter.negative")
+                .register(meterRegistry);
+    }
+
+    public static long usernameHash(String username) {
+        return BloomFilter.hash(username);
+    }
+
+    public static long emailHash(String email) {
+        return BloomFilter.hash(email) ^ EMAIL_SALT;
+    }
+
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    public boolean mightContainUsername(String username) {
+        return mightContain(usernameHash(username));
+    }
+
+    public boolean mightContainEmail(String email) {
+        return mightContain(emailHash(email));
+    }
+
+    public void add(String username, String email) {
+        BloomFilter current = filter;
+        if (current != null) {
+            put(current, username, email);
+        }
+    }
+
+    public static void put(BloomFilter target, String username, String email) {
+        target.put(usernameHash(username));
+        target.put(emailHash(email));
+    }
+
+    public void replace(BloomFilter rebuilt) {
+        filter = rebuilt;
+    }
+
+    public BloomFilter current() {
+        return filter;
+    }
+
+    public double expectedFalsePositiveRate() {
+        BloomFilter current = filter;
+        return current == null ? 1.0 : current.expectedFalsePositiveRate();
+    }
+
+    public void writeSnapshot(Path path, Instant syncedUpTo) throws IOException {
+        BloomFilter current = filter;
+        if (current == null) {
+            return;
+        }
+        Path directory = path.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        long size = SNAPSHOT_HEADER_BYTES + current.wordCount() * (long) Long.BYTES;
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putLong(SNAPSHOT_MAGIC)
+                    .putLong(current.bitSize())
+                    .putInt(current.hashFunctions())
+                    .putInt(0)
+                    .putLong(syncedUpTo.toEpochMilli());
+            current.writeTo(buffer.asLongBuffer());
+            buffer.force();
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public Optional<Instant> restoreSnapshot(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < SNAPSHOT_HEADER_BYTES) {
+                return Optional.empty();
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getLong() != SNAPSHOT_MAGIC) {
+                return Optional.empty();
+            }
+            long bitSize = buffer.getLong();
+            int hashFunctions = buffer.getInt();
+            buffer.getInt();
+            Instant syncedUpTo = Instant.ofEpochMilli(buffer.getLong());
+            if (bitSize <= 0 || bitSize % Long.SIZE != 0 || hashFunctions <= 0
+                    || buffer.remaining() != bitSize / Long.SIZE * Long.BYTES) {
+                return Optional.empty();
+            }
+            filter = BloomFilter.readFrom(buffer.asLongBuffer(), bitSize, hashFunctions);
+            return Optional.of(syncedUpTo);
+        }
+    }
+
+    private boolean mightContain(long hash) {
+        BloomFilter current = filter;
+        if (current == null || current.mightContain(hash)) {
+            return true;
+        }
+        negativeCounter.increment();
+        return false;
+    }
+}
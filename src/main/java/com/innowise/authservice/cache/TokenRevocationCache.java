@@ -0,0 +1,87 @@
+package com.innowise.authservice.cache;
+
+import com.innowise.authservice.util.BloomFilter;
+import com.innowise.authservice.util.TokenDigests;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TokenRevocationCache {
+
+    private final Map<String, Entry> revoked = new ConcurrentHashMap<>();
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter filterPositiveCounter;
+    private final Counter falsePositiveCounter;
+    private volatile BloomFilter filter;
+
+    public TokenRevocationCache(MeterRegistry meterRegistry,
+            @Value("${auth.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${auth.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        Gauge.builder("auth.revocation.entries", revoked, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("auth.revocation.filter.false-positive-rate", this,
+                        cache -> cache.filter.expectedFalsePositiveRate())
+                .register(meterRegistry);
+        this.filterPositiveCounter = Counter.builder("auth.revocation.filter.positive")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("auth.revocation.filter.false-positive")
+                .register(meterRegistry);
+    }
+
+    public static long fingerprint(String token) {
+        return BloomFilter.hash(token);
+    }
+
+    public boolean isRevoked(String token) {
+        if (!filter.mightContain(fingerprint(token))) {
+            return false;
+        }
+        filterPositiveCounter.increment();
+        Entry entry = revoked.get(TokenDigests.sha256Base64(token));
+        if (entry == null) {
+            falsePositiveCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public void add(String tokenHash, long fingerprint, Instant expiresAt) {
+        revoked.put(tokenHash, new Entry(fingerprint, expiresAt));
+        filter.put(fingerprint);
+    }
+
+    public int evictExpired(Instant now) {
+        int sizeBefore = revoked.size();
+        revoked.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+        int evicted = sizeBefore - revoked.size();
+        if (evicted > 0) {
+            rebuild();
+        }
+        return evicted;
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    private void rebuild() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revoked.size() * 2L),
+                falsePositiveRate);
+        revoked.values().forEach(entry -> rebuilt.put(entry.fingerprint()));
+        filter = rebuilt;
+        revoked.values().forEach(entry -> rebuilt.put(entry.fingerprint()));
+    }
+
+    private record Entry(long fingerprint, Instant expiresAt) {
+    }
+}
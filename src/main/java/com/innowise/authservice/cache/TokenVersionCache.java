@@ -0,0 +1,149 @@
+package com.innowise.authservice.cache;
+
+import com.innowise.authservice.event.AuthUserChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class TokenVersionCache {
+
+    private final int initialCapacity;
+    private final Counter outdatedCounter;
+    private volatile Table table;
+
+    public TokenVersionCache(MeterRegistry meterRegistry,
+            @Value("${auth.token-versions.initial-capacity:1024}") int initialCapacity) {
+        this.initialCapacity = initialCapacity;
+        this.table = new Table(tableCapacity(initialCapacity));
+        Gauge.builder("auth.token-versions.entries", this, TokenVersionCache::size)
+                .register(meterRegistry);
+        this.outdatedCounter = Counter.builder("auth.token-versions.outdated")
+                .register(meterRegistry);
+    }
+
+    public boolean isCurrent(UUID userId, int tokenVersion) {
+        if (userId == null || tokenVersion >= version(userId)) {
+            return true;
+        }
+        outdatedCounter.increment();
+        return false;
+    }
+
+    public int version(UUID userId) {
+        return table.get(userId.getMostSignificantBits(), userId.getLeastSignificantBits());
+    }
+
+    public synchronized boolean update(UUID userId, int tokenVersion, Instant changedAt) {
+        if (userId == null || tokenVersion <= 0) {
+            return false;
+        }
+        Table current = table;
+        if ((current.size + 1) * 2 > current.capacity()) {
+            current = current.copy(current.capacity() * 2, Long.MIN_VALUE);
+            table = current;
+        }
+        return current.put(userId.getMostSignificantBits(), userId.getLeastSignificantBits(),
+                tokenVersion, changedAt.toEpochMilli());
+    }
+
+    public synchronized int evictChangedBefore(Instant cutoff) {
+        Table current = table;
+        Table rebuilt = current.copy(tableCapacity(Math.max(initialCapacity, current.size)),
+                cutoff.toEpochMilli());
+        int evicted = current.size - rebuilt.size;
+        if (evicted > 0) {
+            table = rebuilt;
+        }
+        return evicted;
+    }
+
+    public int size() {
+        return table.size;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthUserChanged(AuthUserChangedEvent event) {
+        update(event.userId(), event.tokenVersion(), Instant.now());
+    }
+
+    private static int tableCapacity(int entries) {
+        return Integer.highestOneBit(Math.max(entries, 8) * 2 - 1) << 1;
+    }
+
+    private static int slot(long most, long least, int mask) {
+        long hash = (most ^ least) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ hash >>> 32) & mask;
+    }
+
+    private static final class Table {
+
+        private final long[] keys;
+        private final long[] changedAt;
+        private final AtomicIntegerArray versions;
+        private final int mask;
+        private int size;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity * 2];
+            this.changedAt = new long[capacity];
+            this.versions = new AtomicIntegerArray(capacity);
+            this.mask = capacity - 1;
+        }
+
+        private int capacity() {
+            return mask + 1;
+        }
+
+        private int get(long most, long least) {
+            for (int slot = slot(most, least, mask); ; slot = slot + 1 & mask) {
+                int stored = versions.get(slot);
+                if (stored == 0) {
+                    return 0;
+                }
+                if (keys[slot * 2] == most && keys[slot * 2 + 1] == least) {
+                    return stored;
+                }
+            }
+        }
+
+        private boolean put(long most, long least, int version, long changedAtMillis) {
+            for (int slot = slot(most, least, mask); ; slot = slot + 1 & mask) {
+                int stored = versions.get(slot);
+                if (stored == 0) {
+                    keys[slot * 2] = most;
+                    keys[slot * 2 + 1] = least;
+                    changedAt[slot] = changedAtMillis;
+                    versions.set(slot, version);
+                    size++;
+                    return true;
+                }
+                if (keys[slot * 2] == most && keys[slot * 2 + 1] == least) {
+                    if (version <= stored) {
+                        return false;
+                    }
+                    changedAt[slot] = changedAtMillis;
+                    versions.set(slot, version);
+                    return true;
+                }
+            }
+        }
+
+        private Table copy(int capacity, long cutoffMillis) {
+            Table copy = new Table(capacity);
+            for (int slot = 0; slot <= mask; slot++) {
+                int version = versions.get(slot);
+                if (version != 0 && changedAt[slot] >= cutoffMillis) {
+                    copy.put(keys[slot * 2], keys[slot * 2 + 1], version, changedAt[slot]);
+                }
+            }
+            return copy;
+        }
+    }
+}
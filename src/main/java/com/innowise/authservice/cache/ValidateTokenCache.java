@@ -0,0 +1,139 @@
+package com.innowise.authservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.innowise.authservice.event.AuthUserChangedEvent;
+import com.innowise.authservice.model.dto.response.ValidateTokenResponse;
+import com.innowise.authservice.util.EvictionGenerations;
+import com.innowise.authservice.util.TokenDigests;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class ValidateTokenCache {
+
+    private static final String CACHE_NAME = "validateTokenCache";
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final boolean enabled;
+    private final Cache<String, Entry> cache;
+    private final ConcurrentHashMap<String, Set<String>> digestsByUser = new ConcurrentHashMap<>();
+    private final EvictionGenerations generations = new EvictionGenerations(GENERATION_STRIPES);
+
+    public ValidateTokenCache(MeterRegistry meterRegistry,
+            @Value("${auth.validate-cache.enabled:true}") boolean enabled,
+            @Value("${auth.validate-cache.max-size:100000}") long maxSize,
+            @Value("${auth.validate-cache.max-ttl:10m}") Duration maxTtl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(maxTtl.toNanos()))
+                .evictionListener(this::onEviction)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public ValidateTokenResponse get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = cache.getIfPresent(TokenDigests.sha256Base64(token));
+        return entry == null ? null : entry.response();
+    }
+
+    public long generation(String username) {
+        return username == null ? 0 : generations.current(username);
+    }
+
+    public void put(String token, ValidateTokenResponse response, Instant expiresAt,
+            long generation) {
+        if (!enabled || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        String username = response.getUsername();
+        if (username != null && generations.changedSince(username, generation)) {
+            return;
+        }
+        String digest = TokenDigests.sha256Base64(token);
+        if (username != null) {
+            digestsByUser.computeIfAbsent(username, ignored -> ConcurrentHashMap.newKeySet())
+                    .add(digest);
+        }
+        cache.put(digest, new Entry(response, expiresAt));
+        if (username != null && generations.changedSince(username, generation)) {
+            cache.invalidate(digest);
+        }
+    }
+
+    public void evictUser(String username) {
+        generations.advance(username);
+        Set<String> digests = digestsByUser.remove(username);
+        if (digests != null) {
+            cache.invalidateAll(digests);
+        }
+    }
+
+    int indexedUsers() {
+        return digestsByUser.size();
+    }
+
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    // Fired from the JPA @PostUpdate listener only; bulk JPQL updates such as
+    // updatePasswordIfUnchanged bypass it and must evict explicitly if they matter here.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthUserChanged(AuthUserChangedEvent event) {
+        evictUser(event.username());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private void onEviction(String digest, Entry entry, RemovalCause cause) {
+        if (digest == null || entry == null || entry.response().getUsername() == null) {
+            return;
+        }
+        digestsByUser.computeIfPresent(entry.response().getUsername(), (username, digests) -> {
+            digests.remove(digest);
+            return digests.isEmpty() ? null : digests;
+        });
+    }
+
+    private record Entry(ValidateTokenResponse response, Instant expiresAt) {
+    }
+
+    private record TokenExpiry(long maxTtlNanos) implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            long untilExpiry = Duration.between(Instant.now(), entry.expiresAt()).toNanos();
+            return Math.max(0, Math.min(maxTtlNanos, untilExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.innowise.authservice.client;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final boolean[] window;
+  private final int minimumCalls;
+  private final double failureRateThreshold;
+  private final long openDurationNanos;
+  private final int halfOpenCalls;
+  private final LongSupplier nanoClock;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private State state = State.CLOSED;
+  private int position;
+  private int recorded;
+  private int failures;
+  private long openedAt;
+  private int halfOpenPermits;
+  private int halfOpenSuccesses;
+
+  public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+      Duration openDuration, int halfOpenCalls) {
+    this(windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenCalls,
+        System::nanoTime);
+  }
+
+  CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+      Duration openDuration, int halfOpenCalls, LongSupplier nanoClock) {
+    if (windowSize < 1 || minimumCalls < 1 || halfOpenCalls < 1) {
+      throw new IllegalArgumentException("Circuit breaker sizes must be positive");
+    }
+    this.window = new boolean[windowSize];
+    this.minimumCalls = Math.min(minimumCalls, windowSize);
+    this.failureRateThreshold = failureRateThreshold;
+    this.openDurationNanos = openDuration.toNanos();
+    this.halfOpenCalls = halfOpenCalls;
+    this.nanoClock = nanoClock;
+  }
+
+  public boolean tryAcquire() {
+    lock.lock();
+    try {
+      if (state == State.OPEN) {
+        if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+          return false;
+        }
+        state = State.HALF_OPEN;
+        halfOpenPermits = halfOpenCalls;
+        halfOpenSuccesses = 0;
+      }
+      if (state == State.HALF_OPEN) {
+        if (halfOpenPermits == 0) {
+          return false;
+        }
+        halfOpenPermits--;
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void onSuccess() {
+    lock.lock();
+    try {
+      if (state == State.HALF_OPEN) {
+        if (++halfOpenSuccesses >= halfOpenCalls) {
+          close();
+        }
+      } else if (state == State.CLOSED) {
+        record(false);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void onFailure() {
+    lock.lock();
+    try {
+      if (state == State.HALF_OPEN) {
+        open();
+      } else if (state == State.CLOSED) {
+        record(true);
+        if (recorded >= minimumCalls && failures * 100.0 / recorded >= failureRateThreshold) {
+          open();
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public State getState() {
+    lock.lock();
+    try {
+      return state;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void record(boolean failure) {
+    if (recorded == window.length) {
+      if (window[position]) {
+        failures--;
+      }
+    } else {
+      recorded++;
+    }
+    window[position] = failure;
+    if (failure) {
+      failures++;
+    }
+    position = (position + 1) % window.length;
+  }
+
+  private void open() {
+    state = State.OPEN;
+    openedAt = nanoClock.getAsLong();
+  }
+
+  private void close() {
+    state = State.CLOSED;
+    position = 0;
+    recorded = 0;
+    failures = 0;
+  }
+}
@@ -0,0 +1,95 @@
+package com.innowise.authservice.client;
+
+import com.innowise.authservice.exception.UserServiceUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+public class ResilientRequestInterceptor implements ClientHttpRequestInterceptor {
+
+  private static final String CALLS_METRIC = "auth.userservice.client.calls";
+
+  private final Semaphore bulkhead;
+  private final int maxConcurrentCalls;
+  private final long maxWaitNanos;
+  private final CircuitBreaker circuitBreaker;
+  private final MeterRegistry meterRegistry;
+
+  public ResilientRequestInterceptor(int maxConcurrentCalls, Duration maxWait,
+      CircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+    this.bulkhead = new Semaphore(maxConcurrentCalls);
+    this.maxConcurrentCalls = maxConcurrentCalls;
+    this.maxWaitNanos = maxWait.toNanos();
+    this.circuitBreaker = circuitBreaker;
+    this.meterRegistry = meterRegistry;
+    Gauge.builder("auth.userservice.client.in-flight", bulkhead,
+            permits -> maxConcurrentCalls - permits.availablePermits())
+        .register(meterRegistry);
+    Gauge.builder("auth.userservice.client.utilization", bulkhead,
+            permits -> (maxConcurrentCalls - permits.availablePermits())
+                / (double) maxConcurrentCalls)
+        .register(meterRegistry);
+    Gauge.builder("auth.userservice.client.circuit.state", circuitBreaker,
+            breaker -> breaker.getState().ordinal())
+        .register(meterRegistry);
+  }
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+      ClientHttpRequestExecution execution) throws IOException {
+    if (!acquirePermit()) {
+      record("rejected", 0);
+      throw new UserServiceUnavailableException(
+          "User service bulkhead is full (" + maxConcurrentCalls + " concurrent calls)");
+    }
+    try {
+      if (!circuitBreaker.tryAcquire()) {
+        record("short_circuited", 0);
+        throw new UserServiceUnavailableException("User service circuit breaker is open");
+      }
+      long start = System.nanoTime();
+      try {
+        ClientHttpResponse response = execution.execute(request, body);
+        if (response.getStatusCode().is5xxServerError()) {
+          circuitBreaker.onFailure();
+          record("server_error", System.nanoTime() - start);
+        } else {
+          circuitBreaker.onSuccess();
+          record("success", System.nanoTime() - start);
+        }
+        return response;
+      } catch (IOException | RuntimeException ex) {
+        circuitBreaker.onFailure();
+        record("io_error", System.nanoTime() - start);
+        throw ex;
+      }
+    } finally {
+      bulkhead.release();
+    }
+  }
+
+  private boolean acquirePermit() throws IOException {
+    try {
+      return bulkhead.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for a user service call slot", ex);
+    }
+  }
+
+  private void record(String outcome, long nanos) {
+    Timer.builder(CALLS_METRIC)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(nanos, TimeUnit.NANOSECONDS);
+  }
+}
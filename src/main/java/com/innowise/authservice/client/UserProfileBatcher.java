@@ -0,0 +1,183 @@
+package com.innowise.authservice.client;
+
+import com.innowise.authservice.exception.UserServiceIntegrationException;
+import com.innowise.authservice.model.dto.request.CreateUserProfileRequest;
+import com.innowise.authservice.model.dto.response.BatchCreateUserProfileResponse;
+import com.innowise.authservice.model.dto.response.UserProfileCreationResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+@Slf4j
+@Component
+public class UserProfileBatcher implements DisposableBean {
+
+  private final UserServiceClient userServiceClient;
+  private final int maxBatchSize;
+  private final long windowNanos;
+  private final ScheduledExecutorService scheduler;
+  private final DistributionSummary batchSizes;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private List<PendingProfile> buffer = new ArrayList<>();
+  private ScheduledFuture<?> scheduledFlush;
+
+  public UserProfileBatcher(UserServiceClient userServiceClient, MeterRegistry meterRegistry,
+      @Value("${services.userservice-client.bulk.max-batch-size:100}") int maxBatchSize,
+      @Value("${services.userservice-client.bulk.window:20ms}") Duration window) {
+    this.userServiceClient = userServiceClient;
+    this.maxBatchSize = maxBatchSize;
+    this.windowNanos = window.toNanos();
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "user-profile-batcher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.batchSizes = DistributionSummary.builder("auth.userservice.client.batch.size")
+        .register(meterRegistry);
+  }
+
+  public CompletableFuture<Void> submit(CreateUserProfileRequest request) {
+    PendingProfile pending = new PendingProfile(request, new CompletableFuture<>());
+    List<PendingProfile> full = null;
+    lock.lock();
+    try {
+      buffer.add(pending);
+      if (buffer.size() >= maxBatchSize) {
+        full = drain();
+      } else if (scheduledFlush == null) {
+        scheduledFlush = scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (full != null) {
+      List<PendingProfile> batch = full;
+      scheduler.execute(() -> send(batch));
+    }
+    return pending.result();
+  }
+
+  public void flush() {
+    List<PendingProfile> batch;
+    lock.lock();
+    try {
+      batch = drain();
+    } finally {
+      lock.unlock();
+    }
+    send(batch);
+  }
+
+  @Override
+  public void destroy() {
+    flush();
+    scheduler.shutdown();
+  }
+
+  private List<PendingProfile> drain() {
+    List<PendingProfile> drained = buffer;
+    buffer = new ArrayList<>();
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+    return drained;
+  }
+
+  private void send(List<PendingProfile> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    try {
+      sendBatch(batch);
+    } catch (RuntimeException ex) {
+      log.warn("Could not complete bulk creation of {} user profiles", batch.size(), ex);
+    } finally {
+      batch.forEach(pending -> pending.result().completeExceptionally(
+          new UserServiceIntegrationException(
+              "Bulk creation did not complete for profile " + pending.request().getId())));
+    }
+  }
+
+  private void sendBatch(List<PendingProfile> batch) {
+    batchSizes.record(batch.size());
+    List<CreateUserProfileRequest> requests = new ArrayList<>(batch.size());
+    batch.forEach(pending -> requests.add(pending.request()));
+
+    BatchCreateUserProfileResponse response;
+    try {
+      response = userServiceClient.createUserProfiles(requests);
+    } catch (RuntimeException ex) {
+      log.warn("Bulk creation of {} user profiles failed: {}", batch.size(), ex.getMessage());
+      batch.forEach(pending -> pending.result().completeExceptionally(ex));
+      return;
+    }
+
+    Map<UUID, UserProfileCreationResult> results = new HashMap<>();
+    if (response != null && response.getResults() != null) {
+      response.getResults().forEach(result -> results.put(result.getId(), result));
+    }
+    for (PendingProfile pending : batch) {
+      UserProfileCreationResult result = results.get(pending.request().getId());
+      HttpStatusCode status = result == null ? null : statusOf(result);
+      if (result == null) {
+        pending.result().completeExceptionally(new UserServiceIntegrationException(
+            "User service returned no result for profile " + pending.request().getId()));
+      } else if (status == null) {
+        pending.result().completeExceptionally(new UserServiceIntegrationException(
+            "Invalid status " + result.getStatus() + " for profile " + result.getId()));
+      } else if (status.is2xxSuccessful()) {
+        pending.result().complete(null);
+      } else {
+        pending.result().completeExceptionally(toException(result, status));
+      }
+    }
+  }
+
+  private HttpStatusCode statusOf(UserProfileCreationResult result) {
+    int status = result.getStatus();
+    return status >= 100 && status <= 999 ? HttpStatusCode.valueOf(status) : null;
+  }
+
+  private RuntimeException toException(UserProfileCreationResult result, HttpStatusCode status) {
+    HttpStatus knownStatus = HttpStatus.resolve(result.getStatus());
+    String statusText = result.getMessage() != null
+        ? result.getMessage()
+        : knownStatus != null ? knownStatus.getReasonPhrase() : "";
+    if (status.is4xxClientError()) {
+      return HttpClientErrorException.create(status, statusText, HttpHeaders.EMPTY, null,
+          StandardCharsets.UTF_8);
+    }
+    if (status.is5xxServerError()) {
+      return HttpServerErrorException.create(status, statusText, HttpHeaders.EMPTY, null,
+          StandardCharsets.UTF_8);
+    }
+    return new UserServiceIntegrationException(
+        "Unexpected status " + result.getStatus() + " for profile " + result.getId());
+  }
+
+  private record PendingProfile(CreateUserProfileRequest request, CompletableFuture<Void> result) {
+  }
+}
@@ -1,6 +1,9 @@
 package com.innowise.authservice.client;
 
+import com.innowise.authservice.model.dto.request.BatchCreateUserProfileRequest;
 import com.innowise.authservice.model.dto.request.CreateUserProfileRequest;
+import com.innowise.authservice.model.dto.response.BatchCreateUserProfileResponse;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
@@ -13,6 +16,7 @@ import org.springframework.web.client.RestClient;
 public class UserServiceClient {
 
   private static final String INTERNAL_SECRET_HEADER = "X-INTERNAL-SECRET";
+  private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 
   private final RestClient restClient;
 
@@ -26,11 +30,29 @@ public class UserServiceClient {
     restClient.post()
         .uri(userServiceUrl + "/api/users/internal")
         .headers(headers -> headers.addAll(createHeaders()))
+        .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey(request))
         .body(request)
         .retrieve()
         .toBodilessEntity();
   }
 
+  public BatchCreateUserProfileResponse createUserProfiles(
+      List<CreateUserProfileRequest> requests) {
+    return restClient.post()
+        .uri(userServiceUrl + "/api/users/internal/batch")
+        .headers(headers -> headers.addAll(createHeaders()))
+        .body(BatchCreateUserProfileRequest.builder()
+            .profiles(requests)
+            .idempotencyKeys(requests.stream().map(UserServiceClient::idempotencyKey).toList())
+            .build())
+        .retrieve()
+        .body(BatchCreateUserProfileResponse.class);
+  }
+
+  private static String idempotencyKey(CreateUserProfileRequest request) {
+    return String.valueOf(request.getId());
+  }
+
   private HttpHeaders createHeaders() {
     HttpHeaders headers = new HttpHeaders();
     headers.setContentType(MediaType.APPLICATION_JSON);
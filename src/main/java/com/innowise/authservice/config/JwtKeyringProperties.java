@@ -0,0 +1,28 @@
+package com.innowise.authservice.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class JwtKeyringProperties {
+
+    public static final String DEFAULT_KEY_ID = "default";
+
+    private String secret;
+    private String signingKeyId = DEFAULT_KEY_ID;
+    private List<Key> keys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Key {
+
+        private String kid;
+        private String algorithm = "HS256";
+        private String secret;
+        private String privateKey;
+        private String publicKey;
+    }
+}
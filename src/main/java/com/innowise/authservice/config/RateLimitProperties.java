@@ -0,0 +1,35 @@
+package com.innowise.authservice.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private int maxKeys = 100000;
+    private int stripes = 64;
+    private int maxBodyBytes = 8192;
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+
+        private String path;
+        private Limit perIp;
+        private Limit perUsername;
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private int capacity;
+        private Duration period = Duration.ofMinutes(1);
+    }
+}
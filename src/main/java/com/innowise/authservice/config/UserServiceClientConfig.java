@@ -1,14 +1,65 @@
 package com.innowise.authservice.config;
 
+import com.innowise.authservice.client.CircuitBreaker;
+import com.innowise.authservice.client.ResilientRequestInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 @Configuration
 public class UserServiceClientConfig {
 
+  @Value("${services.userservice-client.http-version:HTTP_1_1}")
+  private HttpClient.Version httpVersion;
+
+  @Value("${services.userservice-client.connect-timeout:2s}")
+  private Duration connectTimeout;
+
+  @Value("${services.userservice-client.read-timeout:3s}")
+  private Duration readTimeout;
+
+  @Value("${services.userservice-client.max-concurrent-calls:32}")
+  private int maxConcurrentCalls;
+
+  @Value("${services.userservice-client.max-wait:100ms}")
+  private Duration maxWait;
+
+  @Value("${services.userservice-client.circuit-breaker.window-size:20}")
+  private int windowSize;
+
+  @Value("${services.userservice-client.circuit-breaker.minimum-calls:10}")
+  private int minimumCalls;
+
+  @Value("${services.userservice-client.circuit-breaker.failure-rate-threshold:50}")
+  private double failureRateThreshold;
+
+  @Value("${services.userservice-client.circuit-breaker.open-duration:10s}")
+  private Duration openDuration;
+
+  @Value("${services.userservice-client.circuit-breaker.half-open-calls:3}")
+  private int halfOpenCalls;
+
   @Bean
-  public RestClient restClient(RestClient.Builder builder) {
-    return builder.build();
+  public RestClient restClient(RestClient.Builder builder, MeterRegistry meterRegistry) {
+    HttpClient httpClient = HttpClient.newBuilder()
+        .version(httpVersion)
+        .connectTimeout(connectTimeout)
+        .followRedirects(HttpClient.Redirect.NEVER)
+        .build();
+    JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+    requestFactory.setReadTimeout(readTimeout);
+
+    CircuitBreaker circuitBreaker = new CircuitBreaker(windowSize, minimumCalls,
+        failureRateThreshold, openDuration, halfOpenCalls);
+    return builder
+        .requestFactory(requestFactory)
+        .requestInterceptor(new ResilientRequestInterceptor(maxConcurrentCalls, maxWait,
+            circuitBreaker, meterRegistry))
+        .build();
   }
 }
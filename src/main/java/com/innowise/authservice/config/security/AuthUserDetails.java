@@ -1,64 +1,118 @@
 package com.innowise.authservice.config.security;
 
 import com.innowise.authservice.model.entity.AuthUser;
+import com.innowise.authservice.model.entity.type.AccountStatus;
 import com.innowise.authservice.model.entity.type.Role;
+import com.innowise.authservice.model.token.VerifiedToken;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-@RequiredArgsConstructor
 public class AuthUserDetails implements UserDetails {
 
-    private final AuthUser user;
+    private final UUID userId;
+    private final String username;
+    private final String password;
+    private final String email;
+    private final Role role;
+    private final boolean accountNonExpired;
+    private final boolean accountNonLocked;
+    private final boolean credentialsNonExpired;
+    private final boolean enabled;
+    private final int tokenVersion;
+    private final List<GrantedAuthority> authorities;
+
+    public AuthUserDetails(AuthUser user) {
+        this.userId = user.getId();
+        this.username = user.getUsername();
+        this.password = user.getPassword();
+        this.email = user.getEmail();
+        this.role = user.getRole();
+        this.accountNonExpired = user.isAccountNonExpired();
+        this.accountNonLocked = user.isAccountNonLocked();
+        this.credentialsNonExpired = user.isCredentialsNonExpired();
+        this.enabled = user.isEnabled();
+        this.tokenVersion = user.getTokenVersion();
+        this.authorities = toAuthorities(role);
+    }
+
+    public AuthUserDetails(VerifiedToken token) {
+        AccountStatus accountStatus = token.getAccountStatus();
+        this.userId = token.getUserId();
+        this.username = token.getSubject();
+        this.password = null;
+        this.email = token.getEmail();
+        this.role = token.getRole();
+        this.accountNonExpired = accountStatus != AccountStatus.EXPIRED;
+        this.accountNonLocked = accountStatus != AccountStatus.LOCKED;
+        this.credentialsNonExpired = accountStatus != AccountStatus.CREDENTIALS_EXPIRED;
+        this.enabled = accountStatus != AccountStatus.DISABLED;
+        this.tokenVersion = token.getTokenVersion();
+        this.authorities = toAuthorities(role);
+    }
+
+  public AccountStatus getAccountStatus() {
+    return AccountStatus.of(enabled, accountNonLocked, accountNonExpired, credentialsNonExpired);
+  }
 
   public UUID getUserId() {
-    return user.getId();
+    return userId;
   }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
     public Role getRole() {
-        return user.getRole();
+        return role;
     }
 
     public String getEmail() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+        return authorities;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return username;
     }
 
     @Override
     public boolean isAccountNonExpired() {
-        return user.isAccountNonExpired();
+        return accountNonExpired;
     }
 
     @Override
     public boolean isAccountNonLocked() {
-        return user.isAccountNonLocked();
+        return accountNonLocked;
     }
 
     @Override
     public boolean isCredentialsNonExpired() {
-        return user.isCredentialsNonExpired();
+        return credentialsNonExpired;
     }
 
     @Override
     public boolean isEnabled() {
-        return user.isEnabled();
+        return enabled;
+    }
+
+    private static List<GrantedAuthority> toAuthorities(Role role) {
+        return role == null
+                ? Collections.emptyList()
+                : List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 }
@@ -0,0 +1,58 @@
+package com.innowise.authservice.config.security;
+
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@Slf4j
+public class BCryptStrengthCalibrator {
+
+    static final int MIN_STRENGTH = 4;
+    static final int MAX_STRENGTH = 31;
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+    private static final int SAMPLES = 2;
+
+    private final IntToLongFunction hashTimer;
+
+    public BCryptStrengthCalibrator() {
+        this(BCryptStrengthCalibrator::measureHashNanos);
+    }
+
+    BCryptStrengthCalibrator(IntToLongFunction hashTimer) {
+        this.hashTimer = hashTimer;
+    }
+
+    public int calibrate(Duration target, int minStrength, int maxStrength) {
+        if (minStrength < MIN_STRENGTH || maxStrength > MAX_STRENGTH || minStrength > maxStrength) {
+            throw new IllegalArgumentException("BCrypt strength bounds must satisfy "
+                    + MIN_STRENGTH + " <= min <= max <= " + MAX_STRENGTH);
+        }
+        long targetNanos = target.toNanos();
+        int strength = minStrength;
+        long hashNanos = fastestOf(strength);
+        while (strength < maxStrength && hashNanos * 2 <= targetNanos) {
+            strength++;
+            hashNanos = fastestOf(strength);
+        }
+        log.info("BCrypt strength calibrated to {} ({} ms per hash, target {} ms)",
+                strength, Duration.ofNanos(hashNanos).toMillis(), target.toMillis());
+        return strength;
+    }
+
+    private long fastestOf(int strength) {
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            fastest = Math.min(fastest, hashTimer.applyAsLong(strength));
+        }
+        return fastest;
+    }
+
+    private static long measureHashNanos(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return System.nanoTime() - start;
+    }
+}
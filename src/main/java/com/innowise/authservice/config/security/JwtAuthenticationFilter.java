@@ -1,5 +1,8 @@
 package com.innowise.authservice.config.security;
 
+import com.innowise.authservice.cache.TokenRevocationCache;
+import com.innowise.authservice.model.entity.type.AccountStatus;
+import com.innowise.authservice.model.token.VerifiedToken;
 import com.innowise.authservice.service.CustomUserDetailsService;
 import com.innowise.authservice.service.JwtService;
 import io.jsonwebtoken.JwtException;
@@ -11,6 +14,7 @@ import java.io.IOException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -24,6 +28,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationCache tokenRevocationCache;
+
+    @Value("${auth.validation-mode:strict}")
+    private ValidationMode validationMode = ValidationMode.STRICT;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -31,10 +39,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         String jwtToken = getTokenFromRequest(request);
-        if (jwtToken != null) {
+        if (jwtToken != null && !tokenRevocationCache.isRevoked(jwtToken)) {
             try {
-                jwtService.validateToken(jwtToken);
-                setAuthentication(jwtToken);
+                VerifiedToken verifiedToken = jwtService.verifyToken(jwtToken);
+                setAuthentication(verifiedToken);
             } catch (JwtException | IllegalArgumentException ex) {
                 log.debug("Invalid JWT", ex);
             }
@@ -50,11 +58,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private void setAuthentication(String jwtToken) {
-        String username = jwtService.extractUsername(jwtToken);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+    private void setAuthentication(VerifiedToken verifiedToken) {
+        UserDetails userDetails = loadUserDetails(verifiedToken);
+        if (userDetails == null) {
+            return;
+        }
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                 userDetails, null, userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
+
+    private UserDetails loadUserDetails(VerifiedToken verifiedToken) {
+        if (validationMode == ValidationMode.STATELESS && verifiedToken.isSelfContained()) {
+            return verifiedToken.getAccountStatus() == AccountStatus.ACTIVE
+                    ? new AuthUserDetails(verifiedToken)
+                    : null;
+        }
+        return userDetailsService.loadUserByUsername(verifiedToken.getSubject());
+    }
 }
@@ -0,0 +1,98 @@
+package com.innowise.authservice.config.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+@Configuration
+public class PasswordEncoderConfig {
+
+    static final String BCRYPT_ID = "bcrypt";
+    static final String PBKDF2_ID = "pbkdf2";
+
+    @Value("${auth.password-encoder.id:bcrypt}")
+    private String encodingId;
+
+    @Value("${auth.password-encoder.bcrypt-strength:10}")
+    private int strength;
+
+    @Value("${auth.password-encoder.calibration.enabled:false}")
+    private boolean calibrate;
+
+    @Value("${auth.password-encoder.calibration.target:50ms}")
+    private Duration calibrationTarget;
+
+    @Value("${auth.password-encoder.calibration.min-strength:10}")
+    private int minStrength;
+
+    @Value("${auth.password-encoder.calibration.max-strength:14}")
+    private int maxStrength;
+
+    @Value("${auth.password-hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${auth.password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${auth.password-hashing.timeout:5s}")
+    private Duration timeout;
+
+    @Value("${auth.password-hashing.retry-after:1s}")
+    private Duration retryAfter;
+
+    @Bean
+    public BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int effectiveStrength = calibrate
+                ? new BCryptStrengthCalibrator().calibrate(calibrationTarget, minStrength, maxStrength)
+                : strength;
+        int threads = hashingThreads > 0
+                ? hashingThreads
+                : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder(effectiveStrength), threads,
+                queueCapacity, timeout, retryAfter, meterRegistry);
+    }
+
+    private PasswordEncoder delegatingPasswordEncoder(int bcryptStrength) {
+        PasswordEncoder bcrypt = new ExactStrengthBCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT_ID, bcrypt);
+        encoders.put(PBKDF2_ID, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(encodingId)) {
+            throw new IllegalStateException("Unsupported password encoder id: " + encodingId);
+        }
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(encodingId, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegating;
+    }
+
+    static class ExactStrengthBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+        private final int strength;
+
+        ExactStrengthBCryptPasswordEncoder(int strength) {
+            super(strength);
+            this.strength = strength;
+        }
+
+        @Override
+        protected boolean upgradeEncodingNonNull(String encodedPassword) {
+            if (encodedPassword.length() < 7
+                    || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(6) != '$') {
+                return false;
+            }
+            try {
+                return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+            } catch (NumberFormatException ex) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.innowise.authservice.config.security;
+
+import com.innowise.authservice.config.RateLimitProperties;
+import com.innowise.authservice.exception.ErrorResponse;
+import com.innowise.authservice.util.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String PROPERTIES_PREFIX = "auth.rate-limit";
+    private static final String USERNAME_FIELD = "username";
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final JsonMapper jsonMapper;
+    private final boolean enabled;
+    private final int maxBodyBytes;
+    private final Map<String, EndpointLimits> endpoints = new HashMap<>();
+
+    public RateLimitFilter(Environment environment, MeterRegistry meterRegistry,
+            JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        RateLimitProperties properties = Binder.get(environment)
+                .bind(PROPERTIES_PREFIX, RateLimitProperties.class)
+                .orElseGet(RateLimitProperties::new);
+        this.enabled = properties.isEnabled();
+        this.maxBodyBytes = properties.getMaxBodyBytes();
+        properties.getEndpoints().forEach((name, endpoint) -> {
+            if (endpoint.getPath() == null || endpoint.getPath().isBlank()) {
+                throw new IllegalStateException("Rate limit path is missing for endpoint " + name);
+            }
+            endpoints.put(endpoint.getPath(), new EndpointLimits(
+                    limiter(meterRegistry, properties, name, "ip", endpoint.getPerIp()),
+                    limiter(meterRegistry, properties, name, "username",
+                            endpoint.getPerUsername())));
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || !endpoints.containsKey(path(request));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        EndpointLimits limits = endpoints.get(path(request));
+        if (limits.perIp() != null
+                && !limits.perIp().tryAcquire(request.getRemoteAddr(), response)) {
+            reject(response, limits.perIp());
+            return;
+        }
+        HttpServletRequest filteredRequest = request;
+        if (limits.perUsername() != null) {
+            CachedBodyRequest cachedRequest = new CachedBodyRequest(request, maxBodyBytes);
+            filteredRequest = cachedRequest;
+            String username = cachedRequest.isComplete() ? readUsername(cachedRequest.body()) : null;
+            if (username != null && !limits.perUsername().tryAcquire(username, response)) {
+                reject(response, limits.perUsername());
+                return;
+            }
+        }
+        filterChain.doFilter(filteredRequest, response);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.rate-limit.idle-eviction-interval-ms:30000}")
+    public int evictIdle() {
+        int evicted = 0;
+        for (EndpointLimits limits : endpoints.values()) {
+            if (limits.perIp() != null) {
+                evicted += limits.perIp().limiter().evictIdle();
+            }
+            if (limits.perUsername() != null) {
+                evicted += limits.perUsername().limiter().evictIdle();
+            }
+        }
+        return evicted;
+    }
+
+    private String readUsername(byte[] body) {
+        try {
+            JsonNode username = jsonMapper.readTree(body).path(USERNAME_FIELD);
+            return username.isString() && !username.stringValue().isBlank()
+                    ? username.stringValue()
+                    : null;
+        } catch (JacksonException ex) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, KeyedLimiter limiter) throws IOException {
+        limiter.rejected().increment();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        jsonMapper.writeValue(response.getOutputStream(),
+                ErrorResponse.builder().message("Too many requests").build());
+    }
+
+    private static KeyedLimiter limiter(MeterRegistry meterRegistry,
+            RateLimitProperties properties, String endpoint, String key,
+            RateLimitProperties.Limit limit) {
+        if (limit == null || limit.getCapacity() <= 0) {
+            return null;
+        }
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(limit.getCapacity(),
+                limit.getPeriod(), properties.getMaxKeys(), properties.getStripes());
+        Gauge.builder("auth.rate-limit.buckets", limiter, TokenBucketRateLimiter::size)
+                .tag("endpoint", endpoint)
+                .tag("key", key)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("auth.rate-limit.rejected")
+                .tag("endpoint", endpoint)
+                .tag("key", key)
+                .register(meterRegistry);
+        return new KeyedLimiter(limiter, rejected);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private record EndpointLimits(KeyedLimiter perIp, KeyedLimiter perUsername) {
+    }
+
+    private record KeyedLimiter(TokenBucketRateLimiter limiter, Counter rejected) {
+
+        private boolean tryAcquire(String key, HttpServletResponse response) {
+            long waitNanos = limiter.tryAcquire(key);
+            if (waitNanos <= 0) {
+                return true;
+            }
+            long retryAfter = Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+            return false;
+        }
+    }
+
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+        private final boolean complete;
+
+        private CachedBodyRequest(HttpServletRequest request, int maxBodyBytes) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+            this.complete = body.length <= maxBodyBytes;
+        }
+
+        private boolean isComplete() {
+            return complete;
+        }
+
+        private byte[] body() {
+            return body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            InputStream cached = new ByteArrayInputStream(body);
+            InputStream source = complete
+                    ? cached
+                    : new SequenceInputStream(cached, super.getInputStream());
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    return source.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    return source.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    try {
+                        return source.available() == 0;
+                    } catch (IOException ex) {
+                        return true;
+                    }
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Async reads are not supported");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
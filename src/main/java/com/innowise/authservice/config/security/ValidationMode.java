@@ -0,0 +1,6 @@
+package com.innowise.authservice.config.security;
+
+public enum ValidationMode {
+    STRICT,
+    STATELESS
+}
@@ -1,13 +1,20 @@
 package com.innowise.authservice.controller;
 
 import com.innowise.authservice.controller.api.AdminControllerApi;
+import com.innowise.authservice.model.dto.request.RevokeTokenRequest;
+import com.innowise.authservice.model.dto.response.CredentialsFilterResponse;
+import com.innowise.authservice.model.dto.response.OutboxRedriveResponse;
 import com.innowise.authservice.model.dto.response.PromoteUserResponse;
+import com.innowise.authservice.model.dto.response.RevokeTokenResponse;
+import com.innowise.authservice.model.dto.response.SigningKeysResponse;
 import com.innowise.authservice.service.AdminService;
+import jakarta.validation.Valid;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -24,4 +31,33 @@ public class AdminController implements AdminControllerApi {
     PromoteUserResponse response = adminService.promoteToAdmin(id);
     return ResponseEntity.ok(response);
   }
+
+  @PostMapping("/keys/reload")
+  @Override
+  public ResponseEntity<SigningKeysResponse> reloadSigningKeys() {
+    SigningKeysResponse response = adminService.reloadSigningKeys();
+    return ResponseEntity.ok(response);
+  }
+
+  @PostMapping("/tokens/revoke")
+  @Override
+  public ResponseEntity<RevokeTokenResponse> revokeToken(
+      @Valid @RequestBody RevokeTokenRequest request) {
+    RevokeTokenResponse response = adminService.revokeToken(request.getToken());
+    return ResponseEntity.ok(response);
+  }
+
+  @PostMapping("/credentials-filter/rebuild")
+  @Override
+  public ResponseEntity<CredentialsFilterResponse> rebuildCredentialsFilter() {
+    CredentialsFilterResponse response = adminService.rebuildCredentialsFilter();
+    return ResponseEntity.ok(response);
+  }
+
+  @PostMapping("/outbox/redrive")
+  @Override
+  public ResponseEntity<OutboxRedriveResponse> redriveFailedOutboxEvents() {
+    OutboxRedriveResponse response = adminService.redriveFailedOutboxEvents();
+    return ResponseEntity.ok(response);
+  }
 }
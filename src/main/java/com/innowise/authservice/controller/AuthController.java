@@ -1,12 +1,14 @@
 package com.innowise.authservice.controller;
 
 import com.innowise.authservice.controller.api.AuthControllerApi;
-import com.innowise.authservice.controller.api.AuthControllerApi;
+import com.innowise.authservice.model.dto.request.AvailabilityRequest;
+import com.innowise.authservice.model.dto.request.BatchValidateTokenRequest;
 import com.innowise.authservice.model.dto.request.LoginRequest;
 import com.innowise.authservice.model.dto.request.RefreshTokenRequest;
 import com.innowise.authservice.model.dto.request.RegisterRequest;
-import com.innowise.authservice.model.dto.request.RegisterRequest;
 import com.innowise.authservice.model.dto.request.ValidateTokenRequest;
+import com.innowise.authservice.model.dto.response.AvailabilityResponse;
+import com.innowise.authservice.model.dto.response.BatchValidateTokenResponse;
 import com.innowise.authservice.model.dto.response.RegisterResponse;
 import com.innowise.authservice.model.dto.response.TokenResponse;
 import com.innowise.authservice.model.dto.response.ValidateTokenResponse;
@@ -15,6 +17,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -56,5 +59,19 @@ public class AuthController implements AuthControllerApi {
     ValidateTokenResponse response = authService.validateToken(request);
     return ResponseEntity.ok(response);
   }
-}
 
+  @PostMapping("/validate/batch")
+  @Override
+  public ResponseEntity<BatchValidateTokenResponse> validateTokens(
+      @Valid @RequestBody BatchValidateTokenRequest request) {
+    BatchValidateTokenResponse response = authService.validateTokens(request);
+    return ResponseEntity.ok(response);
+  }
+
+  @GetMapping("/availability")
+  @Override
+  public ResponseEntity<AvailabilityResponse> checkAvailability(@Valid AvailabilityRequest request) {
+    AvailabilityResponse response = authService.checkAvailability(request);
+    return ResponseEntity.ok(response);
+  }
+}
@@ -0,0 +1,43 @@
+package com.innowise.authservice.controller;
+
+import com.innowise.authservice.controller.api.JwksControllerApi;
+import com.innowise.authservice.model.dto.response.JwksResponse;
+import com.innowise.authservice.service.JwksService;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController implements JwksControllerApi {
+
+    private final JwksService jwksService;
+
+    @Value("${jwt.jwks.max-age:5m}")
+    private Duration maxAge = Duration.ofMinutes(5);
+
+  @GetMapping("/.well-known/jwks.json")
+  @Override
+  public ResponseEntity<JwksResponse> getJwks(
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    String eTag = jwksService.getJwksETag();
+    CacheControl cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    if (ifNoneMatch != null && ifNoneMatch.contains(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(eTag)
+          .cacheControl(cacheControl)
+          .build();
+    }
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .cacheControl(cacheControl)
+        .body(jwksService.getJwks());
+  }
+}
@@ -1,6 +1,11 @@
 package com.innowise.authservice.controller.api;
 
+import com.innowise.authservice.model.dto.request.RevokeTokenRequest;
+import com.innowise.authservice.model.dto.response.CredentialsFilterResponse;
+import com.innowise.authservice.model.dto.response.OutboxRedriveResponse;
 import com.innowise.authservice.model.dto.response.PromoteUserResponse;
+import com.innowise.authservice.model.dto.response.RevokeTokenResponse;
+import com.innowise.authservice.model.dto.response.SigningKeysResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -18,4 +23,39 @@ public interface AdminControllerApi {
       @ApiResponse(responseCode = "404", description = "User not found")
   })
   ResponseEntity<PromoteUserResponse> promoteToAdmin(UUID id);
+
+  @Operation(summary = "Reload JWT signing and verification keys",
+      description = "Re-reads jwt.keyring-file, which may add or remove kids and switch "
+          + "jwt.signing-key-id, and any PEM files it references. Keys set only through "
+          + "application properties or environment variables change on restart.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Keys reloaded"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "500", description = "Key configuration is invalid")
+  })
+  ResponseEntity<SigningKeysResponse> reloadSigningKeys();
+
+  @Operation(summary = "Revoke an issued access or refresh token before it expires")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Token revoked"),
+      @ApiResponse(responseCode = "400", description = "Token is invalid or already expired"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized")
+  })
+  ResponseEntity<RevokeTokenResponse> revokeToken(RevokeTokenRequest request);
+
+  @Operation(summary = "Rebuild the username and email Bloom filter from auth_users")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Filter rebuilt"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized")
+  })
+  ResponseEntity<CredentialsFilterResponse> rebuildCredentialsFilter();
+
+  @Operation(summary = "Re-queue outbox events that exhausted their delivery attempts",
+      description = "Moves every FAILED outbox event back to PENDING with its attempt count "
+          + "reset, so it is delivered again with the full retry budget.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Failed events re-queued"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized")
+  })
+  ResponseEntity<OutboxRedriveResponse> redriveFailedOutboxEvents();
 }
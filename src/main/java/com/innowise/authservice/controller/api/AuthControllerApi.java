@@ -1,9 +1,13 @@
 package com.innowise.authservice.controller.api;
 
+import com.innowise.authservice.model.dto.request.AvailabilityRequest;
+import com.innowise.authservice.model.dto.request.BatchValidateTokenRequest;
 import com.innowise.authservice.model.dto.request.LoginRequest;
 import com.innowise.authservice.model.dto.request.RefreshTokenRequest;
 import com.innowise.authservice.model.dto.request.RegisterRequest;
 import com.innowise.authservice.model.dto.request.ValidateTokenRequest;
+import com.innowise.authservice.model.dto.response.AvailabilityResponse;
+import com.innowise.authservice.model.dto.response.BatchValidateTokenResponse;
 import com.innowise.authservice.model.dto.response.RegisterResponse;
 import com.innowise.authservice.model.dto.response.TokenResponse;
 import com.innowise.authservice.model.dto.response.ValidateTokenResponse;
@@ -24,7 +28,8 @@ public interface AuthControllerApi {
           content = @Content(mediaType = "application/json",
               schema = @Schema(implementation = RegisterResponse.class))),
       @ApiResponse(responseCode = "400", description = "Invalid input"),
-      @ApiResponse(responseCode = "409", description = "Username or email already exists")
+      @ApiResponse(responseCode = "409", description = "Username or email already exists"),
+      @ApiResponse(responseCode = "503", description = "Password hashing is saturated, retry later")
   })
   ResponseEntity<RegisterResponse> register(RegisterRequest request);
 
@@ -35,7 +40,8 @@ public interface AuthControllerApi {
               schema = @Schema(implementation = TokenResponse.class))),
       @ApiResponse(responseCode = "400", description = "Invalid input"),
       @ApiResponse(responseCode = "401", description = "Invalid credentials"),
-      @ApiResponse(responseCode = "404", description = "User not found")
+      @ApiResponse(responseCode = "404", description = "User not found"),
+      @ApiResponse(responseCode = "503", description = "Password hashing is saturated, retry later")
   })
   ResponseEntity<TokenResponse> login(LoginRequest request);
 
@@ -59,4 +65,23 @@ public interface AuthControllerApi {
       @ApiResponse(responseCode = "404", description = "User not found")
   })
   ResponseEntity<ValidateTokenResponse> validateToken(ValidateTokenRequest request);
+
+  @Operation(summary = "Validate several tokens in one call")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Per-token validation results",
+          content = @Content(mediaType = "application/json",
+              schema = @Schema(implementation = BatchValidateTokenResponse.class))),
+      @ApiResponse(responseCode = "400", description = "Invalid input or batch too large")
+  })
+  ResponseEntity<BatchValidateTokenResponse> validateTokens(BatchValidateTokenRequest request);
+
+  @Operation(summary = "Check whether a username and/or email is still free")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Availability of the requested values",
+          content = @Content(mediaType = "application/json",
+              schema = @Schema(implementation = AvailabilityResponse.class))),
+      @ApiResponse(responseCode = "400", description = "Invalid input"),
+      @ApiResponse(responseCode = "429", description = "Too many requests")
+  })
+  ResponseEntity<AvailabilityResponse> checkAvailability(AvailabilityRequest request);
 }
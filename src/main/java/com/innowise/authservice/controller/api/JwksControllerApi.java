@@ -0,0 +1,23 @@
+package com.innowise.authservice.controller.api;
+
+import com.innowise.authservice.model.dto.response.JwksResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+@Tag(name = "JWKS", description = "Public token verification keys")
+public interface JwksControllerApi {
+
+  @Operation(summary = "Get public keys for local token verification")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Current key set",
+          content = @Content(mediaType = "application/json",
+              schema = @Schema(implementation = JwksResponse.class))),
+      @ApiResponse(responseCode = "304", description = "Key set not modified")
+  })
+  ResponseEntity<JwksResponse> getJwks(String ifNoneMatch);
+}
@@ -0,0 +1,10 @@
+package com.innowise.authservice.event;
+
+import java.util.UUID;
+
+public record AuthUserChangedEvent(UUID userId, String username, int tokenVersion) {
+
+    public AuthUserChangedEvent(UUID userId, String username) {
+        this(userId, username, 0);
+    }
+}
@@ -0,0 +1,22 @@
+package com.innowise.authservice.event;
+
+import com.innowise.authservice.model.entity.AuthUser;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AuthUserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(AuthUser user) {
+        eventPublisher.publishEvent(new AuthUserChangedEvent(user.getId(), user.getUsername(),
+                user.getTokenVersion()));
+    }
+}
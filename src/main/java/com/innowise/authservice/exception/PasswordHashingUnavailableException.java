@@ -0,0 +1,19 @@
+package com.innowise.authservice.exception;
+
+import java.io.Serial;
+import java.time.Duration;
+import lombok.Getter;
+
+@Getter
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+  @Serial
+  private static final long serialVersionUID = 3318964215370871095L;
+
+  private final Duration retryAfter;
+
+  public PasswordHashingUnavailableException(Duration retryAfter) {
+    super("Authentication is temporarily overloaded, please retry later");
+    this.retryAfter = retryAfter;
+  }
+}
@@ -0,0 +1,14 @@
+package com.innowise.authservice.exception;
+
+import java.io.Serial;
+import org.springframework.web.client.ResourceAccessException;
+
+public class UserServiceUnavailableException extends ResourceAccessException {
+
+  @Serial
+  private static final long serialVersionUID = 2801652237460196424L;
+
+  public UserServiceUnavailableException(String message) {
+    super(message);
+  }
+}
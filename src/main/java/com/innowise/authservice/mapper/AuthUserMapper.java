@@ -8,6 +8,7 @@ import com.innowise.authservice.model.dto.response.ValidateTokenResponse;
 import com.innowise.authservice.model.dto.response.RegisterResponse;
 import com.innowise.authservice.model.entity.AuthUser;
 import com.innowise.authservice.model.entity.type.Role;
+import com.innowise.authservice.model.token.VerifiedToken;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -62,6 +63,19 @@ public class AuthUserMapper {
                 .build();
     }
 
+    public ValidateTokenResponse toValidateTokenResponse(VerifiedToken verifiedToken) {
+        if (verifiedToken == null) {
+            return null;
+        }
+        return ValidateTokenResponse.builder()
+                .valid(true)
+                .userId(verifiedToken.getUserId())
+                .username(verifiedToken.getSubject())
+                .email(verifiedToken.getEmail())
+                .role(verifiedToken.getRole())
+                .build();
+    }
+
     public PromoteUserResponse toPromoteUserResponse(AuthUser user) {
         if (user == null) {
             return null;
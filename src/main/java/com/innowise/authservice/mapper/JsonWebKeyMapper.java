@@ -0,0 +1,59 @@
+package com.innowise.authservice.mapper;
+
+import com.innowise.authservice.model.dto.response.JsonWebKey;
+import com.innowise.authservice.service.jwt.JwtKey;
+import java.math.BigInteger;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JsonWebKeyMapper {
+
+    private static final String SIGNATURE_USE = "sig";
+
+    public JsonWebKey toJsonWebKey(JwtKey key) {
+        if (key == null) {
+            return null;
+        }
+        if (key.getVerificationKey() instanceof RSAPublicKey rsaKey) {
+            return JsonWebKey.builder()
+                    .kty("RSA")
+                    .kid(key.getKid())
+                    .use(SIGNATURE_USE)
+                    .alg(key.getAlgorithm().getValue())
+                    .n(encode(rsaKey.getModulus(), 0))
+                    .e(encode(rsaKey.getPublicExponent(), 0))
+                    .build();
+        }
+        if (key.getVerificationKey() instanceof ECPublicKey ecKey) {
+            int fieldSize = ecKey.getParams().getCurve().getField().getFieldSize();
+            int length = (fieldSize + 7) / 8;
+            return JsonWebKey.builder()
+                    .kty("EC")
+                    .kid(key.getKid())
+                    .use(SIGNATURE_USE)
+                    .alg(key.getAlgorithm().getValue())
+                    .crv("P-" + fieldSize)
+                    .x(encode(ecKey.getW().getAffineX(), length))
+                    .y(encode(ecKey.getW().getAffineY(), length))
+                    .build();
+        }
+        return null;
+    }
+
+    private String encode(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,28 @@
+package com.innowise.authservice.model.dto.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityRequest {
+
+  @Size(min = 2, max = 50, message = "Username must be between 2 and 50 characters")
+  private String username;
+
+  @Email(message = "Email must be valid")
+  @Size(max = 100, message = "Email must not exceed 100 characters")
+  private String email;
+
+  @AssertTrue(message = "Username or email is required")
+  public boolean isCriteriaPresent() {
+    return username != null && !username.isBlank() || email != null && !email.isBlank();
+  }
+}
@@ -0,0 +1,17 @@
+package com.innowise.authservice.model.dto.request;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCreateUserProfileRequest {
+
+  private List<CreateUserProfileRequest> profiles;
+  private List<String> idempotencyKeys;
+}
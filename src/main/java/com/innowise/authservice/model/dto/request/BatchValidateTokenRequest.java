@@ -0,0 +1,19 @@
+package com.innowise.authservice.model.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchValidateTokenRequest {
+
+    @NotEmpty(message = "Tokens are required")
+    private List<@NotBlank(message = "Token is required") String> tokens;
+}
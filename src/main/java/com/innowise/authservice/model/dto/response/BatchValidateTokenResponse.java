@@ -0,0 +1,16 @@
+package com.innowise.authservice.model.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchValidateTokenResponse {
+
+  private List<TokenValidationResult> results;
+}
@@ -0,0 +1,18 @@
+package com.innowise.authservice.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CredentialsFilterResponse {
+
+  private long users;
+  private long bitSize;
+  private int hashFunctions;
+  private double expectedFalsePositiveRate;
+}
@@ -0,0 +1,25 @@
+package com.innowise.authservice.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JsonWebKey {
+
+  private String kty;
+  private String kid;
+  private String use;
+  private String alg;
+  private String n;
+  private String e;
+  private String crv;
+  private String x;
+  private String y;
+}
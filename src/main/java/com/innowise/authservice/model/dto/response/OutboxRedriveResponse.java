@@ -0,0 +1,15 @@
+package com.innowise.authservice.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxRedriveResponse {
+
+  private int redriven;
+}
@@ -0,0 +1,19 @@
+package com.innowise.authservice.model.dto.response;
+
+import com.innowise.authservice.model.entity.type.TokenType;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokeTokenResponse {
+
+    private String username;
+    private TokenType tokenType;
+    private Instant expiresAt;
+}
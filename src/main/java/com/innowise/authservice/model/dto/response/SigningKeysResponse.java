@@ -0,0 +1,17 @@
+package com.innowise.authservice.model.dto.response;
+
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SigningKeysResponse {
+
+  private String signingKeyId;
+  private Set<String> verificationKeyIds;
+}
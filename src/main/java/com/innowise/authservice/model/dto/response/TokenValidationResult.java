@@ -0,0 +1,17 @@
+package com.innowise.authservice.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenValidationResult {
+
+  private boolean valid;
+  private ValidateTokenResponse validation;
+  private String reason;
+}
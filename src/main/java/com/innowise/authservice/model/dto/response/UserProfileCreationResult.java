@@ -0,0 +1,18 @@
+package com.innowise.authservice.model.dto.response;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProfileCreationResult {
+
+  private UUID id;
+  private int status;
+  private String message;
+}
@@ -1,13 +1,15 @@
 package com.innowise.authservice.model.entity;
 
+import com.innowise.authservice.event.AuthUserEntityListener;
+import com.innowise.authservice.model.entity.generator.DatabaseClockTimestamp;
 import com.innowise.authservice.model.entity.type.Role;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
-import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -16,9 +18,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SourceType;
 
 @Entity
 @Table(name = "auth_users")
+@EntityListeners(AuthUserEntityListener.class)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -42,9 +47,11 @@ public class AuthUser {
     private Role role;
 
     @Column(name = "created_at", nullable = false, updatable = false)
+    @CreationTimestamp(source = SourceType.DB)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at", nullable = false)
+    @DatabaseClockTimestamp
     private LocalDateTime updatedAt;
 
     @Column(name = "account_not_expired", nullable = false)
@@ -63,19 +70,50 @@ public class AuthUser {
     @ColumnDefault("true")
     private boolean enabled = true;
 
+    @Column(name = "token_version", nullable = false)
+    @ColumnDefault("0")
+    private int tokenVersion;
+
     @PrePersist
     private void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
-
         if (role == null) {
             role = Role.USER;
         }
     }
 
-    @PreUpdate
-    private void onUpdate() {
-        updatedAt = LocalDateTime.now();
+    public void setRole(Role role) {
+        if (this.role != null && this.role != role) {
+            tokenVersion++;
+        }
+        this.role = role;
+    }
+
+    public void setAccountNotExpired(boolean accountNotExpired) {
+        if (this.accountNotExpired != accountNotExpired) {
+            tokenVersion++;
+        }
+        this.accountNotExpired = accountNotExpired;
+    }
+
+    public void setAccountsNotLocked(boolean accountsNotLocked) {
+        if (this.accountsNotLocked != accountsNotLocked) {
+            tokenVersion++;
+        }
+        this.accountsNotLocked = accountsNotLocked;
+    }
+
+    public void setCredentialsNotExpired(boolean credentialsNotExpired) {
+        if (this.credentialsNotExpired != credentialsNotExpired) {
+            tokenVersion++;
+        }
+        this.credentialsNotExpired = credentialsNotExpired;
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (this.enabled != enabled) {
+            tokenVersion++;
+        }
+        this.enabled = enabled;
     }
 
     public boolean isAccountNonExpired() {
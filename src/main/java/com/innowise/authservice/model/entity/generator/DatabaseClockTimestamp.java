@@ -0,0 +1,13 @@
+package com.innowise.authservice.model.entity.generator;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.ValueGenerationType;
+
+@ValueGenerationType(generatedBy = DatabaseClockTimestampGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface DatabaseClockTimestamp {
+}
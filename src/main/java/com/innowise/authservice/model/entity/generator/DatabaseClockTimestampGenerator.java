@@ -0,0 +1,32 @@
+package com.innowise.authservice.model.entity.generator;
+
+import java.util.EnumSet;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.OnExecutionGenerator;
+
+public class DatabaseClockTimestampGenerator implements OnExecutionGenerator {
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EnumSet.of(EventType.INSERT, EventType.UPDATE);
+    }
+
+    @Override
+    public boolean referenceColumnsInSql(Dialect dialect) {
+        return true;
+    }
+
+    @Override
+    public boolean writePropertyValue() {
+        return false;
+    }
+
+    @Override
+    public String[] getReferencedColumnValues(Dialect dialect) {
+        return new String[] {dialect instanceof PostgreSQLDialect
+                ? "clock_timestamp()::timestamp"
+                : dialect.currentTimestamp()};
+    }
+}
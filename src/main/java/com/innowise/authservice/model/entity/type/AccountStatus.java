@@ -0,0 +1,26 @@
+package com.innowise.authservice.model.entity.type;
+
+public enum AccountStatus {
+    ACTIVE,
+    DISABLED,
+    LOCKED,
+    EXPIRED,
+    CREDENTIALS_EXPIRED;
+
+    public static AccountStatus of(boolean enabled, boolean accountNonLocked,
+            boolean accountNonExpired, boolean credentialsNonExpired) {
+        if (!enabled) {
+            return DISABLED;
+        }
+        if (!accountNonLocked) {
+            return LOCKED;
+        }
+        if (!accountNonExpired) {
+            return EXPIRED;
+        }
+        if (!credentialsNonExpired) {
+            return CREDENTIALS_EXPIRED;
+        }
+        return ACTIVE;
+    }
+}
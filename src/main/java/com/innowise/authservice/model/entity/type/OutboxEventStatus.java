@@ -0,0 +1,6 @@
+package com.innowise.authservice.model.entity.type;
+
+public enum OutboxEventStatus {
+    PENDING,
+    FAILED
+}
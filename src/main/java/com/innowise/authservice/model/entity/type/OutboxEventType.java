@@ -0,0 +1,5 @@
+package com.innowise.authservice.model.entity.type;
+
+public enum OutboxEventType {
+    USER_PROFILE_CREATION
+}
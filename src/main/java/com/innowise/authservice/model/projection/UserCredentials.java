@@ -0,0 +1,10 @@
+package com.innowise.authservice.model.projection;
+
+import lombok.Value;
+
+@Value
+public class UserCredentials {
+
+    String username;
+    String email;
+}
@@ -0,0 +1,14 @@
+package com.innowise.authservice.model.token;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Value;
+
+@Value
+public class UserTokenVersion {
+
+    UUID userId;
+    String username;
+    int tokenVersion;
+    LocalDateTime changedAt;
+}
@@ -0,0 +1,29 @@
+package com.innowise.authservice.model.token;
+
+import com.innowise.authservice.model.entity.type.AccountStatus;
+import com.innowise.authservice.model.entity.type.Role;
+import com.innowise.authservice.model.entity.type.TokenType;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class VerifiedToken {
+
+    String tokenId;
+    String subject;
+    UUID userId;
+    String email;
+    Role role;
+    AccountStatus accountStatus;
+    int tokenVersion;
+    TokenType tokenType;
+    Instant expiresAt;
+
+    public boolean isSelfContained() {
+        return subject != null && userId != null && email != null && role != null
+                && accountStatus != null;
+    }
+}
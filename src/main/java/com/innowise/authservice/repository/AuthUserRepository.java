@@ -1,16 +1,79 @@
 package com.innowise.authservice.repository;
 
 import com.innowise.authservice.model.entity.AuthUser;
+import com.innowise.authservice.model.projection.UserCredentials;
+import com.innowise.authservice.model.token.UserTokenVersion;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface AuthUserRepository extends JpaRepository<AuthUser, UUID> {
   Optional<AuthUser> findByUsername(String username);
 
+    List<AuthUser> findAllByUsernameIn(Collection<String> usernames);
+
     Optional<AuthUser> findByEmail(String email);
 
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
+
+    @Query("select u.username from AuthUser u where u.username = :username or u.email = :email")
+    List<String> findUsernamesByUsernameOrEmail(@Param("username") String username,
+            @Param("email") String email);
+
+    @Query("select new com.innowise.authservice.model.projection.UserCredentials(u.username, "
+            + "u.email) from AuthUser u where u.username = :username or u.email = :email")
+    List<UserCredentials> findCredentialsByUsernameOrEmail(@Param("username") String username,
+            @Param("email") String email);
+
+    @Transactional
+    @Modifying
+    @Query(value = "insert into auth_users (id, username, email, password, role, created_at, "
+            + "updated_at, account_not_expired, accounts_not_locked, credentials_not_expired, "
+            + "enabled, token_version) values (:id, :username, :email, :password, :role, "
+            + "localtimestamp, localtimestamp, true, true, true, true, 0) on conflict do nothing",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("username") String username,
+            @Param("email") String email, @Param("password") String password,
+            @Param("role") String role);
+
+    @Query("select new com.innowise.authservice.model.token.UserTokenVersion(u.id, u.username, "
+            + "u.tokenVersion, u.updatedAt) from AuthUser u where u.tokenVersion > 0 "
+            + "and (u.updatedAt > :since or (u.updatedAt = :since and u.id > :afterId)) "
+            + "order by u.updatedAt, u.id")
+    List<UserTokenVersion> findTokenVersionsChangedAfter(@Param("since") LocalDateTime since,
+            @Param("afterId") UUID afterId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.innowise.authservice.model.projection.UserCredentials(u.username, "
+            + "u.email) from AuthUser u")
+    Stream<UserCredentials> streamAllCredentials();
+
+    @Query(value = "select localtimestamp", nativeQuery = true)
+    LocalDateTime databaseTime();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.innowise.authservice.model.projection.UserCredentials(u.username, "
+            + "u.email) from AuthUser u where u.createdAt >= :since")
+    Stream<UserCredentials> streamCredentialsCreatedSince(@Param("since") LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("update AuthUser u set u.password = :newPassword "
+            + "where u.id = :id and u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") UUID id, @Param("oldPassword") String oldPassword,
+            @Param("newPassword") String newPassword);
 }
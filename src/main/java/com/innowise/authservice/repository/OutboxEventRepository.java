@@ -0,0 +1,54 @@
+package com.innowise.authservice.repository;
+
+import com.innowise.authservice.model.entity.OutboxEvent;
+import com.innowise.authservice.model.entity.type.OutboxEventStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.status = :status and e.nextAttemptAt <= :now "
+            + "order by e.nextAttemptAt")
+    List<OutboxEvent> findDueForUpdate(@Param("status") OutboxEventStatus status,
+            @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query(value = "insert into outbox_events (id, aggregate_id, event_type, payload, status, "
+            + "attempts, next_attempt_at, created_at) values (:id, :aggregateId, :eventType, "
+            + ":payload, 'PENDING', 0, localtimestamp, localtimestamp) on conflict do nothing",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("aggregateId") UUID aggregateId,
+            @Param("eventType") String eventType, @Param("payload") String payload);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :status, e.attempts = :attempts, "
+            + "e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError where e.id = :id")
+    int reschedule(@Param("id") UUID id, @Param("status") OutboxEventStatus status,
+            @Param("attempts") int attempts, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("lastError") String lastError);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :pending, e.attempts = 0, "
+            + "e.nextAttemptAt = local datetime where e.status = :failed")
+    int redrive(@Param("failed") OutboxEventStatus failed,
+            @Param("pending") OutboxEventStatus pending);
+
+    @Query(value = "select localtimestamp", nativeQuery = true)
+    LocalDateTime databaseTime();
+}
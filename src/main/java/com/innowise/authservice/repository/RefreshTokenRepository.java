@@ -0,0 +1,49 @@
+package com.innowise.authservice.repository;
+
+import com.innowise.authservice.model.entity.RefreshToken;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "insert into refresh_tokens (token_hash, family_id, username, expires_at, "
+            + "created_at) values (:tokenHash, :familyId, :username, :expiresAt, :createdAt)",
+            nativeQuery = true)
+    int insert(@Param("tokenHash") String tokenHash, @Param("familyId") UUID familyId,
+            @Param("username") String username, @Param("expiresAt") LocalDateTime expiresAt,
+            @Param("createdAt") LocalDateTime createdAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "insert into refresh_tokens (token_hash, family_id, username, expires_at, "
+            + "used_at, created_at) values (:tokenHash, :familyId, :username, :expiresAt, "
+            + ":usedAt, :usedAt) on conflict do nothing", nativeQuery = true)
+    int insertUsedIfAbsent(@Param("tokenHash") String tokenHash, @Param("familyId") UUID familyId,
+            @Param("username") String username, @Param("expiresAt") LocalDateTime expiresAt,
+            @Param("usedAt") LocalDateTime usedAt);
+
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.usedAt = :usedAt "
+            + "where t.tokenHash = :tokenHash and t.usedAt is null")
+    int markUsed(@Param("tokenHash") String tokenHash, @Param("usedAt") LocalDateTime usedAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.familyId = :familyId")
+    int deleteFamily(@Param("familyId") UUID familyId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from refresh_tokens where token_hash in (select token_hash "
+            + "from refresh_tokens where expires_at < :now order by expires_at limit :limit)",
+            nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
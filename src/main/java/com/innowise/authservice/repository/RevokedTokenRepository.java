@@ -0,0 +1,36 @@
+package com.innowise.authservice.repository;
+
+import com.innowise.authservice.model.entity.RevokedToken;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "insert into revoked_tokens (token_hash, fingerprint, username, expires_at, "
+            + "revoked_at) values (:tokenHash, :fingerprint, :username, :expiresAt, "
+            + "localtimestamp) on conflict do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("tokenHash") String tokenHash, @Param("fingerprint") long fingerprint,
+            @Param("username") String username, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Query("select t from RevokedToken t where t.expiresAt > :now and (t.revokedAt > :since "
+            + "or (t.revokedAt = :since and t.tokenHash > :afterHash)) "
+            + "order by t.revokedAt, t.tokenHash")
+    List<RevokedToken> findActiveRevokedAfter(@Param("since") LocalDateTime since,
+            @Param("afterHash") String afterHash, @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from revoked_tokens where token_hash in (select token_hash "
+            + "from revoked_tokens where expires_at < :now order by expires_at limit :limit)",
+            nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -1,9 +1,21 @@
 package com.innowise.authservice.service;
 
+import com.innowise.authservice.model.dto.response.CredentialsFilterResponse;
+import com.innowise.authservice.model.dto.response.OutboxRedriveResponse;
 import com.innowise.authservice.model.dto.response.PromoteUserResponse;
+import com.innowise.authservice.model.dto.response.RevokeTokenResponse;
+import com.innowise.authservice.model.dto.response.SigningKeysResponse;
 import java.util.UUID;
 
 public interface AdminService {
 
   PromoteUserResponse promoteToAdmin(UUID userId);
+
+  SigningKeysResponse reloadSigningKeys();
+
+  RevokeTokenResponse revokeToken(String token);
+
+  CredentialsFilterResponse rebuildCredentialsFilter();
+
+  OutboxRedriveResponse redriveFailedOutboxEvents();
 }
@@ -1,9 +1,13 @@
 package com.innowise.authservice.service;
 
+import com.innowise.authservice.model.dto.request.AvailabilityRequest;
+import com.innowise.authservice.model.dto.request.BatchValidateTokenRequest;
 import com.innowise.authservice.model.dto.request.LoginRequest;
 import com.innowise.authservice.model.dto.request.RefreshTokenRequest;
 import com.innowise.authservice.model.dto.request.RegisterRequest;
 import com.innowise.authservice.model.dto.request.ValidateTokenRequest;
+import com.innowise.authservice.model.dto.response.AvailabilityResponse;
+import com.innowise.authservice.model.dto.response.BatchValidateTokenResponse;
 import com.innowise.authservice.model.dto.response.RegisterResponse;
 import com.innowise.authservice.model.dto.response.TokenResponse;
 import com.innowise.authservice.model.dto.response.ValidateTokenResponse;
@@ -17,4 +21,8 @@ public interface AuthService {
     TokenResponse refreshTokens(RefreshTokenRequest request);
 
     ValidateTokenResponse validateToken(ValidateTokenRequest request);
+
+    BatchValidateTokenResponse validateTokens(BatchValidateTokenRequest request);
+
+    AvailabilityResponse checkAvailability(AvailabilityRequest request);
 }
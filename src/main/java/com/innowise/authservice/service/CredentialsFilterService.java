@@ -0,0 +1,10 @@
+package com.innowise.authservice.service;
+
+import com.innowise.authservice.model.dto.response.CredentialsFilterResponse;
+
+public interface CredentialsFilterService {
+
+    CredentialsFilterResponse rebuild();
+
+    int synchronize();
+}
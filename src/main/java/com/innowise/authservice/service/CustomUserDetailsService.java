@@ -1,6 +1,13 @@
 package com.innowise.authservice.service;
 
+import com.innowise.authservice.config.security.AuthUserDetails;
+import java.util.Collection;
+import java.util.Map;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 public interface CustomUserDetailsService extends UserDetailsService {
+
+    Map<String, AuthUserDetails> loadUsersByUsernames(Collection<String> usernames);
+
+    void evictUser(String username);
 }
@@ -0,0 +1,10 @@
+package com.innowise.authservice.service;
+
+import com.innowise.authservice.model.dto.response.JwksResponse;
+
+public interface JwksService {
+
+    JwksResponse getJwks();
+
+    String getJwksETag();
+}
@@ -3,6 +3,7 @@ package com.innowise.authservice.service;
 import com.innowise.authservice.model.dto.response.TokenResponse;
 import com.innowise.authservice.model.entity.type.Role;
 import com.innowise.authservice.model.entity.type.TokenType;
+import com.innowise.authservice.model.token.VerifiedToken;
 import java.util.UUID;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -10,10 +11,10 @@ public interface JwtService {
 
     TokenResponse generateTokens(UserDetails userDetails);
 
-    TokenResponse refreshTokens(String refreshToken, UserDetails userDetails);
-
     void validateToken(String token);
 
+    VerifiedToken verifyToken(String token);
+
     String extractUsername(String token);
     UUID extractUserId(String token);
 
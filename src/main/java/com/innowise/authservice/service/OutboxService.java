@@ -0,0 +1,12 @@
+package com.innowise.authservice.service;
+
+import com.innowise.authservice.model.dto.request.CreateUserProfileRequest;
+
+public interface OutboxService {
+
+    void enqueueUserProfileCreation(CreateUserProfileRequest request);
+
+    int dispatch();
+
+    int redriveFailed();
+}
@@ -0,0 +1,8 @@
+package com.innowise.authservice.service;
+
+import com.innowise.authservice.config.security.AuthUserDetails;
+
+public interface PasswordUpgradeService {
+
+    void upgradeIfNeeded(AuthUserDetails userDetails, String rawPassword);
+}
@@ -0,0 +1,13 @@
+package com.innowise.authservice.service;
+
+import com.innowise.authservice.model.token.VerifiedToken;
+import java.util.UUID;
+
+public interface RefreshTokenService {
+
+    void register(String refreshToken, String username, UUID familyId);
+
+    UUID consume(String refreshToken, VerifiedToken verifiedToken);
+
+    int purgeExpired();
+}
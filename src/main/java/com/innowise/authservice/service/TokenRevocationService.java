@@ -0,0 +1,12 @@
+package com.innowise.authservice.service;
+
+import com.innowise.authservice.model.dto.response.RevokeTokenResponse;
+
+public interface TokenRevocationService {
+
+    RevokeTokenResponse revoke(String token);
+
+    int synchronize();
+
+    int purgeExpired();
+}
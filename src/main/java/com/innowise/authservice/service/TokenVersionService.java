@@ -0,0 +1,8 @@
+package com.innowise.authservice.service;
+
+public interface TokenVersionService {
+
+    int synchronize();
+
+    int evictExpired();
+}
@@ -2,14 +2,23 @@ package com.innowise.authservice.service.impl;
 
 import com.innowise.authservice.exception.AuthUserNotFoundException;
 import com.innowise.authservice.mapper.AuthUserMapper;
+import com.innowise.authservice.model.dto.response.CredentialsFilterResponse;
+import com.innowise.authservice.model.dto.response.OutboxRedriveResponse;
 import com.innowise.authservice.model.dto.response.PromoteUserResponse;
+import com.innowise.authservice.model.dto.response.RevokeTokenResponse;
+import com.innowise.authservice.model.dto.response.SigningKeysResponse;
 import com.innowise.authservice.model.entity.AuthUser;
 import com.innowise.authservice.model.entity.type.Role;
 import com.innowise.authservice.repository.AuthUserRepository;
 import com.innowise.authservice.service.AdminService;
+import com.innowise.authservice.service.CredentialsFilterService;
+import com.innowise.authservice.service.OutboxService;
+import com.innowise.authservice.service.TokenRevocationService;
+import com.innowise.authservice.service.jwt.JwtKeyring;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -17,8 +26,13 @@ public class AdminServiceImpl implements AdminService {
 
     private final AuthUserRepository authUserRepository;
     private final AuthUserMapper authUserMapper;
+    private final JwtKeyring jwtKeyring;
+    private final TokenRevocationService tokenRevocationService;
+    private final CredentialsFilterService credentialsFilterService;
+    private final OutboxService outboxService;
 
   @Override
+  @Transactional
   public PromoteUserResponse promoteToAdmin(UUID userId) {
     AuthUser user = authUserRepository.findById(userId)
         .orElseThrow(() -> new AuthUserNotFoundException("id: " + userId));
@@ -29,4 +43,30 @@ public class AdminServiceImpl implements AdminService {
     AuthUser savedUser = authUserRepository.save(user);
     return authUserMapper.toPromoteUserResponse(savedUser);
   }
+
+  @Override
+  public SigningKeysResponse reloadSigningKeys() {
+    jwtKeyring.reload();
+    return SigningKeysResponse.builder()
+        .signingKeyId(jwtKeyring.signingKey().getKid())
+        .verificationKeyIds(jwtKeyring.verificationKeyIds())
+        .build();
+  }
+
+  @Override
+  public RevokeTokenResponse revokeToken(String token) {
+    return tokenRevocationService.revoke(token);
+  }
+
+  @Override
+  public CredentialsFilterResponse rebuildCredentialsFilter() {
+    return credentialsFilterService.rebuild();
+  }
+
+  @Override
+  public OutboxRedriveResponse redriveFailedOutboxEvents() {
+    return OutboxRedriveResponse.builder()
+        .redriven(outboxService.redriveFailed())
+        .build();
+  }
 }
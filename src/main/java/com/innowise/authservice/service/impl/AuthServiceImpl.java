@@ -1,7 +1,10 @@
 package com.innowise.authservice.service.impl;
 
-import com.innowise.authservice.client.UserServiceClient;
+import com.innowise.authservice.cache.CredentialsFilter;
+import com.innowise.authservice.cache.TokenRevocationCache;
+import com.innowise.authservice.cache.ValidateTokenCache;
 import com.innowise.authservice.config.security.AuthUserDetails;
+import com.innowise.authservice.config.security.ValidationMode;
 import com.innowise.authservice.exception.AccessTokenRejectedException;
 import com.innowise.authservice.exception.AuthUserNotFoundException;
 import com.innowise.authservice.exception.CredentialsConflictException;
@@ -10,136 +13,318 @@ import com.innowise.authservice.exception.RefreshTokenRejectedException;
 import com.innowise.authservice.exception.TokenValidationFailedException;
 import com.innowise.authservice.exception.UserServiceIntegrationException;
 import com.innowise.authservice.mapper.AuthUserMapper;
+import com.innowise.authservice.model.dto.request.AvailabilityRequest;
+import com.innowise.authservice.model.dto.request.BatchValidateTokenRequest;
 import com.innowise.authservice.model.dto.request.CreateUserProfileRequest;
 import com.innowise.authservice.model.dto.request.LoginRequest;
 import com.innowise.authservice.model.dto.request.RefreshTokenRequest;
 import com.innowise.authservice.model.dto.request.RegisterRequest;
 import com.innowise.authservice.model.dto.request.ValidateTokenRequest;
+import com.innowise.authservice.model.dto.response.AvailabilityResponse;
+import com.innowise.authservice.model.dto.response.BatchValidateTokenResponse;
 import com.innowise.authservice.model.dto.response.RegisterResponse;
 import com.innowise.authservice.model.dto.response.TokenResponse;
+import com.innowise.authservice.model.dto.response.TokenValidationResult;
 import com.innowise.authservice.model.dto.response.ValidateTokenResponse;
 import com.innowise.authservice.model.entity.AuthUser;
+import com.innowise.authservice.model.entity.type.AccountStatus;
 import com.innowise.authservice.model.entity.type.TokenType;
+import com.innowise.authservice.model.projection.UserCredentials;
+import com.innowise.authservice.model.token.VerifiedToken;
 import com.innowise.authservice.repository.AuthUserRepository;
 import com.innowise.authservice.service.AuthService;
 import com.innowise.authservice.service.CustomUserDetailsService;
 import com.innowise.authservice.service.JwtService;
+import com.innowise.authservice.service.OutboxService;
+import com.innowise.authservice.service.PasswordUpgradeService;
+import com.innowise.authservice.service.RefreshTokenService;
 import io.jsonwebtoken.JwtException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.ResourceAccessException;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
+  private static final String INVALID_TOKEN_REASON = "Access token is invalid";
+  private static final String USER_NOT_FOUND_REASON = "Auth user not found";
+  private static final String REVOKED_TOKEN_REASON = "Access token is revoked";
+
   private final AuthUserRepository authUserRepository;
-  private final AuthenticationManager authenticationManager;
   private final JwtService jwtService;
   private final PasswordEncoder passwordEncoder;
   private final CustomUserDetailsService customUserDetailsService;
   private final AuthUserMapper authUserMapper;
-  private final UserServiceClient userServiceClient;
+  private final OutboxService outboxService;
+  private final TransactionTemplate transactionTemplate;
+  private final ValidateTokenCache validateTokenCache;
+  private final PasswordUpgradeService passwordUpgradeService;
+  private final RefreshTokenService refreshTokenService;
+  private final TokenRevocationCache tokenRevocationCache;
+  private final CredentialsFilter credentialsFilter;
+
+  @Value("${auth.validation-mode:strict}")
+  private ValidationMode validationMode = ValidationMode.STRICT;
+
+  @Value("${auth.validate-batch.max-size:100}")
+  private int maxBatchSize = 100;
 
   @Override
   public RegisterResponse register(RegisterRequest request) {
-    if (authUserRepository.existsByUsername(request.getUsername())) {
-      throw new CredentialsConflictException("username: " + request.getUsername());
-    }
-    if (authUserRepository.existsByEmail(request.getEmail())) {
-      throw new CredentialsConflictException("email: " + request.getEmail());
+    if (credentialsFilter.mightContainUsername(request.getUsername())
+        || credentialsFilter.mightContainEmail(request.getEmail())) {
+      CredentialsConflictException conflict = findCredentialsConflict(request);
+      if (conflict != null) {
+        throw conflict;
+      }
     }
 
     UUID userId = UUID.randomUUID();
     String encodedPassword = passwordEncoder.encode(request.getPassword());
-    AuthUser user = authUserMapper.toEntity(request, encodedPassword);
-    user.setId(userId);
-
-    AuthUser savedUser;
-    try {
-      savedUser = authUserRepository.save(user);
-    } catch (DataIntegrityViolationException ex) {
-      throw resolveCredentialsConflict(request, ex);
-    }
+    AuthUser savedUser = authUserMapper.toEntity(request, encodedPassword);
+    LocalDateTime now = LocalDateTime.now();
+    savedUser.setId(userId);
+    savedUser.setCreatedAt(now);
+    savedUser.setUpdatedAt(now);
 
     CreateUserProfileRequest createUserProfileRequest =
         authUserMapper.toCreateUserProfileRequest(request);
     createUserProfileRequest.setId(userId);
 
-    try {
-      userServiceClient.createUserProfile(createUserProfileRequest);
-    } catch (HttpClientErrorException.Conflict ex) {
-      rollbackAuthUser(userId, ex);
-      throw new CredentialsConflictException("email: " + request.getEmail());
-    } catch (HttpClientErrorException | HttpServerErrorException | ResourceAccessException ex) {
-      rollbackAuthUser(userId, ex);
-      throw new UserServiceIntegrationException("Failed to create user profile", ex);
+    Integer inserted = transactionTemplate.execute(status -> {
+      int rows = authUserRepository.insertIfAbsent(userId, savedUser.getUsername(),
+          savedUser.getEmail(), savedUser.getPassword(), savedUser.getRole().name());
+      if (rows > 0) {
+        outboxService.enqueueUserProfileCreation(createUserProfileRequest);
+      }
+      return rows;
+    });
+    if (inserted == null || inserted == 0) {
+      throw resolveCredentialsConflict(request);
     }
+    credentialsFilter.add(savedUser.getUsername(), savedUser.getEmail());
 
     return authUserMapper.toRegisterResponse(savedUser);
   }
 
   @Override
   public TokenResponse createTokens(LoginRequest request) {
-    if (authUserRepository.findByUsername(request.getUsername()).isEmpty()) {
-      throw new AuthUserNotFoundException("username: " + request.getUsername());
-    }
+    AuthUser user = authUserRepository.findByUsername(request.getUsername())
+        .orElseThrow(() -> new AuthUserNotFoundException("username: " + request.getUsername()));
+    AuthUserDetails userDetails = new AuthUserDetails(user);
 
-    try {
-      Authentication authentication = authenticationManager.authenticate(
-          new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword()));
-      UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-      return jwtService.generateTokens(userDetails);
-    } catch (BadCredentialsException ex) {
+    AccountStatus accountStatus = userDetails.getAccountStatus();
+    if (accountStatus != AccountStatus.ACTIVE
+        && accountStatus != AccountStatus.CREDENTIALS_EXPIRED) {
+      throw new LoginFailedException("Account is " + accountStatus);
+    }
+    if (!passwordEncoder.matches(request.getPassword(), userDetails.getPassword())) {
       throw new LoginFailedException("Incorrect username or password");
     }
+    if (accountStatus == AccountStatus.CREDENTIALS_EXPIRED) {
+      throw new LoginFailedException("Account is " + accountStatus);
+    }
+
+    passwordUpgradeService.upgradeIfNeeded(userDetails, request.getPassword());
+    return issueTokens(userDetails, UUID.randomUUID());
   }
 
     @Override
     public TokenResponse refreshTokens(RefreshTokenRequest request) {
         String refreshToken = request.getRefreshToken();
+        if (tokenRevocationCache.isRevoked(refreshToken)) {
+            throw new RefreshTokenRejectedException();
+        }
+        VerifiedToken verifiedToken;
         try {
-            jwtService.validateToken(refreshToken);
-            if (jwtService.extractTokenType(refreshToken) != TokenType.REFRESH) {
-                throw new RefreshTokenRejectedException();
-            }
+            verifiedToken = jwtService.verifyToken(refreshToken);
         } catch (JwtException | IllegalArgumentException ex) {
             throw new RefreshTokenRejectedException();
         }
+        if (verifiedToken.getTokenType() != TokenType.REFRESH) {
+            throw new RefreshTokenRejectedException();
+        }
 
-        String username = jwtService.extractUsername(refreshToken);
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-        return jwtService.refreshTokens(refreshToken, userDetails);
+        return transactionTemplate.execute(status -> {
+            UUID familyId = refreshTokenService.consume(refreshToken, verifiedToken);
+            UserDetails userDetails =
+                    customUserDetailsService.loadUserByUsername(verifiedToken.getSubject());
+            return issueTokens(userDetails, familyId);
+        });
+    }
+
+    private TokenResponse issueTokens(UserDetails userDetails, UUID familyId) {
+        TokenResponse tokens = jwtService.generateTokens(userDetails);
+        refreshTokenService.register(tokens.getRefreshToken(), userDetails.getUsername(), familyId);
+        return tokens;
     }
 
     @Override
     public ValidateTokenResponse validateToken(ValidateTokenRequest request) {
         String token = request.getToken();
+        if (tokenRevocationCache.isRevoked(token)) {
+            throw new AccessTokenRejectedException(REVOKED_TOKEN_REASON);
+        }
+        ValidateTokenResponse cachedResponse = validateTokenCache.get(token);
+        if (cachedResponse != null) {
+            return cachedResponse;
+        }
+
+        VerifiedToken verifiedToken;
         try {
-            jwtService.validateToken(token);
+            verifiedToken = jwtService.verifyToken(token);
         } catch (JwtException | IllegalArgumentException ex) {
             throw new AccessTokenRejectedException();
         }
 
-        try {
-            String username = jwtService.extractUsername(token);
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-            if (!(userDetails instanceof AuthUserDetails authUserDetails)) {
-                throw new TokenValidationFailedException("Unsupported user details");
+        long generation = validateTokenCache.generation(verifiedToken.getSubject());
+        ValidateTokenResponse response = validationMode == ValidationMode.STATELESS
+                && verifiedToken.isSelfContained()
+                ? validateFromClaims(verifiedToken)
+                : validateFromUserDetails(verifiedToken);
+        validateTokenCache.put(token, response, verifiedToken.getExpiresAt(), generation);
+        return response;
+    }
+
+    @Override
+    public BatchValidateTokenResponse validateTokens(BatchValidateTokenRequest request) {
+        List<String> tokens = request.getTokens();
+        if (tokens.size() > maxBatchSize) {
+            throw new TokenValidationFailedException(
+                    "Batch must not contain more than " + maxBatchSize + " tokens");
+        }
+
+        TokenValidationResult[] results = new TokenValidationResult[tokens.size()];
+        Map<Integer, VerifiedToken> pendingLookups = new HashMap<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            if (tokenRevocationCache.isRevoked(token)) {
+                results[i] = rejectedResult(REVOKED_TOKEN_REASON);
+                continue;
+            }
+            ValidateTokenResponse cachedResponse = validateTokenCache.get(token);
+            if (cachedResponse != null) {
+                results[i] = validResult(cachedResponse);
+                continue;
+            }
+            VerifiedToken verifiedToken;
+            try {
+                verifiedToken = jwtService.verifyToken(token);
+            } catch (JwtException | IllegalArgumentException ex) {
+                results[i] = rejectedResult(INVALID_TOKEN_REASON);
+                continue;
             }
+            if (validationMode == ValidationMode.STATELESS && verifiedToken.isSelfContained()) {
+                try {
+                    long generation = validateTokenCache.generation(verifiedToken.getSubject());
+                    ValidateTokenResponse response = validateFromClaims(verifiedToken);
+                    validateTokenCache.put(token, response, verifiedToken.getExpiresAt(),
+                            generation);
+                    results[i] = validResult(response);
+                } catch (AccessTokenRejectedException ex) {
+                    results[i] = rejectedResult(ex.getMessage());
+                }
+            } else {
+                pendingLookups.put(i, verifiedToken);
+            }
+        }
+
+        if (!pendingLookups.isEmpty()) {
+            Set<String> usernames = new HashSet<>();
+            pendingLookups.values().forEach(verifiedToken -> usernames.add(verifiedToken.getSubject()));
+            Map<String, Long> generations = new HashMap<>();
+            usernames.forEach(username ->
+                    generations.put(username, validateTokenCache.generation(username)));
+            Map<String, AuthUserDetails> users = customUserDetailsService.loadUsersByUsernames(usernames);
+            pendingLookups.forEach((index, verifiedToken) -> {
+                AuthUserDetails userDetails = users.get(verifiedToken.getSubject());
+                if (userDetails == null) {
+                    results[index] = rejectedResult(USER_NOT_FOUND_REASON);
+                    return;
+                }
+                ValidateTokenResponse response = authUserMapper.toValidateTokenResponse(userDetails);
+                validateTokenCache.put(tokens.get(index), response, verifiedToken.getExpiresAt(),
+                        generations.get(verifiedToken.getSubject()));
+                results[index] = validResult(response);
+            });
+        }
+
+        return BatchValidateTokenResponse.builder()
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+  @Override
+  public AvailabilityResponse checkAvailability(AvailabilityRequest request) {
+    String username = blankToNull(request.getUsername());
+    String email = blankToNull(request.getEmail());
+    String uncertainUsername = username != null && credentialsFilter.mightContainUsername(username)
+        ? username
+        : null;
+    String uncertainEmail = email != null && credentialsFilter.mightContainEmail(email)
+        ? email
+        : null;
+    List<UserCredentials> owners = uncertainUsername == null && uncertainEmail == null
+        ? List.of()
+        : authUserRepository.findCredentialsByUsernameOrEmail(uncertainUsername, uncertainEmail);
+
+    return AvailabilityResponse.builder()
+        .username(username)
+        .usernameAvailable(username == null
+            ? null
+            : owners.stream().noneMatch(owner -> username.equals(owner.getUsername())))
+        .email(email)
+        .emailAvailable(email == null
+            ? null
+            : owners.stream().noneMatch(owner -> email.equals(owner.getEmail())))
+        .build();
+  }
 
+  private static String blankToNull(String value) {
+    return value == null || value.isBlank() ? null : value;
+  }
+
+    private TokenValidationResult validResult(ValidateTokenResponse response) {
+        return TokenValidationResult.builder()
+                .valid(true)
+                .validation(response)
+                .build();
+    }
+
+    private TokenValidationResult rejectedResult(String reason) {
+        return TokenValidationResult.builder()
+                .valid(false)
+                .reason(reason)
+                .build();
+    }
+
+    private ValidateTokenResponse validateFromClaims(VerifiedToken verifiedToken) {
+        if (verifiedToken.getAccountStatus() != AccountStatus.ACTIVE) {
+            throw new AccessTokenRejectedException("Account is " + verifiedToken.getAccountStatus());
+        }
+        return authUserMapper.toValidateTokenResponse(verifiedToken);
+    }
+
+  private ValidateTokenResponse validateFromUserDetails(VerifiedToken verifiedToken) {
+    try {
+      UserDetails userDetails = customUserDetailsService.loadUserByUsername(verifiedToken.getSubject());
+      if (!(userDetails instanceof AuthUserDetails authUserDetails)) {
+        throw new TokenValidationFailedException("Unsupported user details");
+      }
       return authUserMapper.toValidateTokenResponse(authUserDetails);
     } catch (AuthUserNotFoundException ex) {
       throw ex;
@@ -148,30 +333,23 @@ public class AuthServiceImpl implements AuthService {
     }
   }
 
-  private RuntimeException resolveCredentialsConflict(RegisterRequest request, Exception ex) {
-    if (authUserRepository.existsByUsername(request.getUsername())) {
-      return new CredentialsConflictException("username: " + request.getUsername());
+  private CredentialsConflictException findCredentialsConflict(RegisterRequest request) {
+    List<String> owners = authUserRepository.findUsernamesByUsernameOrEmail(
+        request.getUsername(), request.getEmail());
+    if (owners.isEmpty()) {
+      return null;
     }
-    if (authUserRepository.existsByEmail(request.getEmail())) {
-      return new CredentialsConflictException("email: " + request.getEmail());
-    }
-    return new UserServiceIntegrationException("Failed to save user credentials", ex);
+    return owners.contains(request.getUsername())
+        ? new CredentialsConflictException("username: " + request.getUsername())
+        : new CredentialsConflictException("email: " + request.getEmail());
   }
 
-  private void rollbackAuthUser(UUID userId, Exception originalException) {
-    try {
-      authUserRepository.deleteById(userId);
-    } catch (Exception rollbackException) {
-      log.error(
-          "Failed to rollback auth user {} after registration failure: {}",
-          userId,
-          rollbackException.getMessage(),
-          rollbackException);
-      log.error(
-          "Original registration failure for {}: {}",
-          userId,
-          originalException.getMessage(),
-          originalException);
+  private RuntimeException resolveCredentialsConflict(RegisterRequest request) {
+    CredentialsConflictException conflict = findCredentialsConflict(request);
+    if (conflict != null) {
+      return conflict;
     }
+    return new UserServiceIntegrationException("Failed to save user credentials");
   }
+
 }
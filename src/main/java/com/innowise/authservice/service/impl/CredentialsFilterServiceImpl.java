@@ -0,0 +1,195 @@
+package com.innowise.authservice.service.impl;
+
+import com.innowise.authservice.cache.CredentialsFilter;
+import com.innowise.authservice.model.dto.response.CredentialsFilterResponse;
+import com.innowise.authservice.model.projection.UserCredentials;
+import com.innowise.authservice.repository.AuthUserRepository;
+import com.innowise.authservice.service.CredentialsFilterService;
+import com.innowise.authservice.util.BloomFilter;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@Slf4j
+public class CredentialsFilterServiceImpl implements CredentialsFilterService {
+
+    private static final int ENTRIES_PER_USER = 2;
+
+    private final AuthUserRepository authUserRepository;
+    private final CredentialsFilter credentialsFilter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final double maxFalsePositiveRate;
+    private final Duration syncOverlap;
+    private final Path snapshotPath;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile LocalDateTime syncedUpTo;
+    private volatile boolean dirty;
+
+    public CredentialsFilterServiceImpl(AuthUserRepository authUserRepository,
+            CredentialsFilter credentialsFilter, PlatformTransactionManager transactionManager,
+            @Value("${auth.credentials-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${auth.credentials-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${auth.credentials-filter.max-false-positive-rate:0.05}") double maxFalsePositiveRate,
+            @Value("${auth.credentials-filter.sync-overlap:5s}") Duration syncOverlap,
+            @Value("${auth.credentials-filter.snapshot-path:}") String snapshotPath) {
+        this.authUserRepository = authUserRepository;
+        this.credentialsFilter = credentialsFilter;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxFalsePositiveRate = maxFalsePositiveRate;
+        this.syncOverlap = syncOverlap;
+        this.snapshotPath = snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (restoreSnapshot()) {
+            int added = synchronize();
+            log.info("Restored credentials filter from {} and caught up {} new users", snapshotPath,
+                    added);
+            return;
+        }
+        rebuild();
+    }
+
+    @Override
+    public CredentialsFilterResponse rebuild() {
+        LocalDateTime startedAt = authUserRepository.databaseTime();
+        long users = authUserRepository.count();
+        BloomFilter rebuilt = new BloomFilter(
+                Math.max(expectedInsertions, users * ENTRIES_PER_USER * 2), falsePositiveRate);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<UserCredentials> credentials = authUserRepository.streamAllCredentials()) {
+                credentials.forEach(user ->
+                        CredentialsFilter.put(rebuilt, user.getUsername(), user.getEmail()));
+            }
+        });
+        lock.lock();
+        try {
+            credentialsFilter.replace(rebuilt);
+            syncedUpTo = startedAt;
+        } finally {
+            lock.unlock();
+        }
+        synchronize();
+        writeSnapshot();
+        log.info("Rebuilt credentials filter for {} users, {} bits", users, rebuilt.bitSize());
+        return CredentialsFilterResponse.builder()
+                .users(users)
+                .bitSize(rebuilt.bitSize())
+                .hashFunctions(rebuilt.hashFunctions())
+                .expectedFalsePositiveRate(rebuilt.expectedFalsePositiveRate())
+                .build();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${auth.credentials-filter.sync-interval-ms:5000}")
+    public int synchronize() {
+        LocalDateTime watermark = syncedUpTo;
+        if (!credentialsFilter.isReady() || watermark == null) {
+            return 0;
+        }
+        LocalDateTime now = authUserRepository.databaseTime();
+        LocalDateTime since = watermark.minus(syncOverlap);
+        List<UserCredentials> created = readOnlyTransaction.execute(status -> {
+            try (Stream<UserCredentials> credentials =
+                    authUserRepository.streamCredentialsCreatedSince(since)) {
+                return credentials.toList();
+            }
+        });
+        lock.lock();
+        try {
+            if (created != null) {
+                for (UserCredentials user : created) {
+                    credentialsFilter.add(user.getUsername(), user.getEmail());
+                }
+            }
+            if (syncedUpTo == watermark) {
+                syncedUpTo = now;
+            }
+            if (created != null && !created.isEmpty()) {
+                dirty = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return created == null ? 0 : created.size();
+    }
+
+    @Scheduled(fixedDelayString = "${auth.credentials-filter.maintenance-interval-ms:60000}")
+    public void maintain() {
+        if (!credentialsFilter.isReady()) {
+            return;
+        }
+        double rate = credentialsFilter.expectedFalsePositiveRate();
+        if (rate > maxFalsePositiveRate) {
+            log.info("Credentials filter false-positive rate {} exceeds {}, rebuilding", rate,
+                    maxFalsePositiveRate);
+            rebuild();
+        } else if (dirty) {
+            writeSnapshot();
+        }
+    }
+
+    @PreDestroy
+    public void persist() {
+        if (dirty) {
+            writeSnapshot();
+        }
+    }
+
+    private boolean restoreSnapshot() {
+        if (snapshotPath == null) {
+            return false;
+        }
+        try {
+            Optional<Instant> restored = credentialsFilter.restoreSnapshot(snapshotPath);
+            restored.ifPresent(instant ->
+                    syncedUpTo = LocalDateTime.ofInstant(instant, ZoneId.systemDefault()));
+            return restored.isPresent();
+        } catch (IOException | IllegalArgumentException ex) {
+            log.warn("Could not restore credentials filter from {}", snapshotPath, ex);
+            return false;
+        }
+    }
+
+    private void writeSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (syncedUpTo == null) {
+                return;
+            }
+            credentialsFilter.writeSnapshot(snapshotPath,
+                    syncedUpTo.atZone(ZoneId.systemDefault()).toInstant());
+            dirty = false;
+        } catch (IOException ex) {
+            log.warn("Could not persist credentials filter to {}", snapshotPath, ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,24 +1,100 @@
 package com.innowise.authservice.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.innowise.authservice.config.security.AuthUserDetails;
+import com.innowise.authservice.event.AuthUserChangedEvent;
 import com.innowise.authservice.exception.AuthUserNotFoundException;
 import com.innowise.authservice.model.entity.AuthUser;
 import com.innowise.authservice.repository.AuthUserRepository;
 import com.innowise.authservice.service.CustomUserDetailsService;
-import lombok.RequiredArgsConstructor;
+import com.innowise.authservice.util.EvictionGenerations;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsServiceImpl implements CustomUserDetailsService {
 
+    private static final String CACHE_NAME = "userDetailsCache";
+    private static final int GENERATION_STRIPES = 1024;
+
     private final AuthUserRepository authUserRepository;
+    private final Cache<String, AuthUserDetails> userDetailsCache;
+    private final EvictionGenerations generations = new EvictionGenerations(GENERATION_STRIPES);
+
+    public CustomUserDetailsServiceImpl(AuthUserRepository authUserRepository,
+            MeterRegistry meterRegistry,
+            @Value("${auth.user-cache.max-size:10000}") long maxSize,
+            @Value("${auth.user-cache.ttl:5m}") Duration ttl) {
+        this.authUserRepository = authUserRepository;
+        this.userDetailsCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userDetailsCache, CACHE_NAME);
+    }
 
   @Override
   public UserDetails loadUserByUsername(String username) {
+    AuthUserDetails cached = userDetailsCache.getIfPresent(username);
+    if (cached != null) {
+      return cached;
+    }
+    long generation = generations.current(username);
     AuthUser user = authUserRepository.findByUsername(username)
         .orElseThrow(() -> new AuthUserNotFoundException("username: " + username));
-    return new AuthUserDetails(user);
+    AuthUserDetails userDetails = new AuthUserDetails(user);
+    cache(username, userDetails, generation);
+    return userDetails;
+  }
+
+  @Override
+  public Map<String, AuthUserDetails> loadUsersByUsernames(Collection<String> usernames) {
+    Map<String, AuthUserDetails> result = new HashMap<>(userDetailsCache.getAllPresent(usernames));
+    Set<String> missing = new HashSet<>(usernames);
+    missing.removeAll(result.keySet());
+    if (missing.isEmpty()) {
+      return result;
+    }
+    Map<String, Long> missingGenerations = new HashMap<>();
+    missing.forEach(username -> missingGenerations.put(username, generations.current(username)));
+    for (AuthUser user : authUserRepository.findAllByUsernameIn(missing)) {
+      AuthUserDetails userDetails = new AuthUserDetails(user);
+      cache(user.getUsername(), userDetails, missingGenerations.get(user.getUsername()));
+      result.put(user.getUsername(), userDetails);
+    }
+    return result;
   }
+
+  private void cache(String username, AuthUserDetails userDetails, long generation) {
+    if (generations.changedSince(username, generation)) {
+      return;
+    }
+    userDetailsCache.put(username, userDetails);
+    if (generations.changedSince(username, generation)) {
+      userDetailsCache.invalidate(username);
+    }
+  }
+
+    @Override
+    public void evictUser(String username) {
+        generations.advance(username);
+        userDetailsCache.invalidate(username);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthUserChanged(AuthUserChangedEvent event) {
+        evictUser(event.username());
+    }
 }
@@ -0,0 +1,53 @@
+package com.innowise.authservice.service.impl;
+
+import com.innowise.authservice.mapper.JsonWebKeyMapper;
+import com.innowise.authservice.model.dto.response.JsonWebKey;
+import com.innowise.authservice.model.dto.response.JwksResponse;
+import com.innowise.authservice.service.JwksService;
+import com.innowise.authservice.service.jwt.JwtKey;
+import com.innowise.authservice.service.jwt.JwtKeyring;
+import com.innowise.authservice.util.TokenDigests;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class JwksServiceImpl implements JwksService {
+
+    private final JwtKeyring jwtKeyring;
+    private final JsonWebKeyMapper jsonWebKeyMapper;
+
+    private volatile Document document;
+
+    @Override
+    public JwksResponse getJwks() {
+        return currentDocument().response();
+    }
+
+    @Override
+    public String getJwksETag() {
+        return currentDocument().eTag();
+    }
+
+    private Document currentDocument() {
+        Map<String, JwtKey> keys = jwtKeyring.verificationKeys();
+        Document current = document;
+        if (current != null && current.keys() == keys) {
+            return current;
+        }
+        List<JsonWebKey> jsonWebKeys = keys.values().stream()
+                .map(jsonWebKeyMapper::toJsonWebKey)
+                .filter(Objects::nonNull)
+                .toList();
+        Document built = new Document(keys, JwksResponse.builder().keys(jsonWebKeys).build(),
+                "\"" + TokenDigests.sha256Base64(jsonWebKeys.toString()) + "\"");
+        document = built;
+        return built;
+    }
+
+    private record Document(Map<String, JwtKey> keys, JwksResponse response, String eTag) {
+    }
+}
@@ -1,38 +1,48 @@
 package com.innowise.authservice.service.impl;
 
+import com.innowise.authservice.cache.TokenVersionCache;
 import com.innowise.authservice.config.security.AuthUserDetails;
 import com.innowise.authservice.mapper.TokenResponseMapper;
 import com.innowise.authservice.model.dto.response.TokenResponse;
+import com.innowise.authservice.model.entity.type.AccountStatus;
 import com.innowise.authservice.model.entity.type.Role;
 import com.innowise.authservice.model.entity.type.TokenType;
+import com.innowise.authservice.model.token.VerifiedToken;
 import com.innowise.authservice.service.JwtService;
+import com.innowise.authservice.service.jwt.HmacJwtCodec;
+import com.innowise.authservice.service.jwt.JwtKey;
+import com.innowise.authservice.service.jwt.JwtKeyring;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
-import java.nio.charset.StandardCharsets;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 public class JwtServiceImpl implements JwtService {
 
     private static final String TOKEN_TYPE_CLAIM = "tokenType";
+    private static final String USER_ID_CLAIM = "userId";
+    private static final String ROLE_CLAIM = "role";
+    private static final String EMAIL_CLAIM = "email";
+    private static final String ACCOUNT_STATUS_CLAIM = "accountStatus";
+    private static final String TOKEN_VERSION_CLAIM = "tokenVersion";
 
     private final TokenResponseMapper tokenResponseMapper;
-
-    @Value("${jwt.secret}")
-    private String secret;
+    private final JwtKeyring jwtKeyring;
+    private final HmacJwtCodec hmacJwtCodec;
+    private final TokenVersionCache tokenVersionCache;
+    private final JwtParser jwtParser;
 
     @Value("${jwt.expiration}")
     private Long tokenExpiration;
@@ -40,6 +50,26 @@ public class JwtServiceImpl implements JwtService {
     @Value("${jwt.refresh-expiration}")
     private Long refreshTokenExpiration;
 
+    public JwtServiceImpl(TokenResponseMapper tokenResponseMapper, JwtKeyring jwtKeyring,
+            HmacJwtCodec hmacJwtCodec, TokenVersionCache tokenVersionCache) {
+        this.tokenResponseMapper = tokenResponseMapper;
+        this.jwtKeyring = jwtKeyring;
+        this.hmacJwtCodec = hmacJwtCodec;
+        this.tokenVersionCache = tokenVersionCache;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        JwtKey key = jwtKeyring.verificationKey(header.getKeyId());
+                        if (!key.getAlgorithm().getValue().equals(header.getAlgorithm())) {
+                            throw new JwtException("Token algorithm does not match its key");
+                        }
+                        return key.getVerificationKey();
+                    }
+                })
+                .build();
+    }
+
     @Override
     public TokenResponse generateTokens(UserDetails userDetails) {
         return buildTokenResponse(
@@ -48,14 +78,24 @@ public class JwtServiceImpl implements JwtService {
     }
 
     @Override
-    public TokenResponse refreshTokens(String refreshToken, UserDetails userDetails) {
-        return buildTokenResponse(
-                generateToken(userDetails, tokenExpiration, TokenType.ACCESS),
-                refreshToken);
+    public void validateToken(String token) {
+        verifyToken(token);
     }
 
     @Override
-    public void validateToken(String token) {
+    public VerifiedToken verifyToken(String token) {
+        VerifiedToken verifiedToken = hmacJwtCodec.tryDecode(token);
+        if (verifiedToken == null) {
+            verifiedToken = parseToken(token);
+        }
+        if (!tokenVersionCache.isCurrent(verifiedToken.getUserId(),
+                verifiedToken.getTokenVersion())) {
+            throw new JwtException("Token version is outdated");
+        }
+        return verifiedToken;
+    }
+
+    private VerifiedToken parseToken(String token) {
         Claims claims = extractAllClaims(token);
         Date expiration = claims.getExpiration();
         if (expiration == null) {
@@ -69,9 +109,19 @@ public class JwtServiceImpl implements JwtService {
             throw new JwtException("Token type is missing");
         }
         try {
-            TokenType.valueOf(tokenType);
+            return VerifiedToken.builder()
+                    .tokenId(claims.getId())
+                    .subject(claims.getSubject())
+                    .userId(parseUserId(claims))
+                    .email(claims.get(EMAIL_CLAIM, String.class))
+                    .role(parseRole(claims))
+                    .accountStatus(parseAccountStatus(claims))
+                    .tokenVersion(parseTokenVersion(claims))
+                    .tokenType(TokenType.valueOf(tokenType))
+                    .expiresAt(expiration.toInstant())
+                    .build();
         } catch (IllegalArgumentException ex) {
-            throw new JwtException("Token type is invalid");
+            throw new JwtException("Token claims are invalid");
         }
     }
 
@@ -82,12 +132,12 @@ public class JwtServiceImpl implements JwtService {
 
     @Override
     public UUID extractUserId(String token) {
-        return extractClaim(token, claims -> claims.get("userId", UUID.class));
+        return extractClaim(token, this::parseUserId);
     }
 
     @Override
     public Role extractRole(String token) {
-        return extractClaim(token, claims -> Role.valueOf(claims.get("role", String.class)));
+        return extractClaim(token, this::parseRole);
     }
 
     @Override
@@ -96,22 +146,48 @@ public class JwtServiceImpl implements JwtService {
     }
 
     private String generateToken(UserDetails userDetails, long expirationMs, TokenType tokenType) {
+        long now = System.currentTimeMillis();
+        Date issuedAt = new Date(now);
+        Date expire = new Date(now + expirationMs);
+        JwtKey signingKey = jwtKeyring.signingKey();
+        String tokenId = tokenType == TokenType.REFRESH ? UUID.randomUUID().toString() : null;
+
+        if (hmacJwtCodec.canEncode(signingKey)) {
+            VerifiedToken.VerifiedTokenBuilder claims = VerifiedToken.builder()
+                    .tokenId(tokenId)
+                    .subject(userDetails.getUsername())
+                    .tokenType(tokenType)
+                    .expiresAt(expire.toInstant());
+            if (userDetails instanceof AuthUserDetails authUserDetails) {
+                claims.userId(authUserDetails.getUserId())
+                        .role(authUserDetails.getRole())
+                        .email(authUserDetails.getEmail())
+                        .accountStatus(authUserDetails.getAccountStatus())
+                        .tokenVersion(authUserDetails.getTokenVersion());
+            }
+            return hmacJwtCodec.encode(signingKey, claims.build(), issuedAt);
+        }
+
         Map<String, Object> claims = new HashMap<>();
         if (userDetails instanceof AuthUserDetails authUserDetails) {
-            claims.put("userId", authUserDetails.getUserId());
-            claims.put("role", authUserDetails.getRole().name());
+            claims.put(USER_ID_CLAIM, authUserDetails.getUserId());
+            claims.put(ROLE_CLAIM, authUserDetails.getRole().name());
+            claims.put(EMAIL_CLAIM, authUserDetails.getEmail());
+            claims.put(ACCOUNT_STATUS_CLAIM, authUserDetails.getAccountStatus().name());
+            if (authUserDetails.getTokenVersion() > 0) {
+                claims.put(TOKEN_VERSION_CLAIM, authUserDetails.getTokenVersion());
+            }
         }
         claims.put(TOKEN_TYPE_CLAIM, tokenType.name());
 
-        long now = System.currentTimeMillis();
-        Date expire = new Date(now + expirationMs);
-
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKid())
+                .setId(tokenId)
                 .setSubject(userDetails.getUsername())
                 .addClaims(claims)
-                .setIssuedAt(new Date(now))
+                .setIssuedAt(issuedAt)
                 .setExpiration(expire)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey.getSigningKey(), signingKey.getAlgorithm())
                 .compact();
     }
 
@@ -124,15 +200,30 @@ public class JwtServiceImpl implements JwtService {
         return function.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private UUID parseUserId(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        return userId == null ? null : UUID.fromString(userId);
+    }
+
+    private Role parseRole(Claims claims) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+        return role == null ? null : Role.valueOf(role);
     }
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    private AccountStatus parseAccountStatus(Claims claims) {
+        String accountStatus = claims.get(ACCOUNT_STATUS_CLAIM, String.class);
+        return accountStatus == null ? null : AccountStatus.valueOf(accountStatus);
+    }
+
+    private int parseTokenVersion(Claims claims) {
+        Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+        if (tokenVersion != null && tokenVersion < 0) {
+            throw new IllegalArgumentException("Token version is negative");
+        }
+        return tokenVersion == null ? 0 : tokenVersion;
+    }
+
+    private Claims extractAllClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 }
@@ -0,0 +1,228 @@
+package com.innowise.authservice.service.impl;
+
+import com.innowise.authservice.client.UserProfileBatcher;
+import com.innowise.authservice.client.UserServiceClient;
+import com.innowise.authservice.exception.UserServiceIntegrationException;
+import com.innowise.authservice.model.dto.request.CreateUserProfileRequest;
+import com.innowise.authservice.model.entity.OutboxEvent;
+import com.innowise.authservice.model.entity.type.OutboxEventStatus;
+import com.innowise.authservice.model.entity.type.OutboxEventType;
+import com.innowise.authservice.repository.OutboxEventRepository;
+import com.innowise.authservice.service.OutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+@Service
+@Slf4j
+public class OutboxServiceImpl implements OutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final UserServiceClient userServiceClient;
+    private final UserProfileBatcher userProfileBatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final Counter deliveredCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final boolean bulkDelivery;
+    private final Duration bulkResultTimeout;
+
+    public OutboxServiceImpl(OutboxEventRepository outboxEventRepository,
+            UserServiceClient userServiceClient, UserProfileBatcher userProfileBatcher,
+            TransactionTemplate transactionTemplate,
+            JsonMapper jsonMapper, MeterRegistry meterRegistry,
+            @Value("${auth.outbox.batch-size:50}") int batchSize,
+            @Value("${auth.outbox.max-attempts:12}") int maxAttempts,
+            @Value("${auth.outbox.lease:30s}") Duration lease,
+            @Value("${auth.outbox.initial-backoff:1s}") Duration initialBackoff,
+            @Value("${auth.outbox.max-backoff:5m}") Duration maxBackoff,
+            @Value("${services.userservice-client.bulk.enabled:false}") boolean bulkDelivery,
+            @Value("${services.userservice-client.bulk.result-timeout:10s}")
+            Duration bulkResultTimeout) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.userServiceClient = userServiceClient;
+        this.userProfileBatcher = userProfileBatcher;
+        this.transactionTemplate = transactionTemplate;
+        this.jsonMapper = jsonMapper;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.bulkDelivery = bulkDelivery;
+        this.bulkResultTimeout = bulkResultTimeout;
+        this.deliveredCounter = Counter.builder("auth.outbox.delivery")
+                .tag("result", "delivered")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("auth.outbox.delivery")
+                .tag("result", "retried")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("auth.outbox.delivery")
+                .tag("result", "failed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void enqueueUserProfileCreation(CreateUserProfileRequest request) {
+        outboxEventRepository.insertIfAbsent(UUID.randomUUID(), request.getId(),
+                OutboxEventType.USER_PROFILE_CREATION.name(),
+                jsonMapper.writeValueAsString(request));
+    }
+
+    @Override
+    public int redriveFailed() {
+        int redriven = outboxEventRepository.redrive(OutboxEventStatus.FAILED,
+                OutboxEventStatus.PENDING);
+        log.info("Re-queued {} failed outbox events", redriven);
+        return redriven;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${auth.outbox.poll-interval-ms:500}")
+    public int dispatch() {
+        List<OutboxEvent> claimed = claimBatch();
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        List<UUID> delivered = bulkDelivery ? deliverInBulk(claimed) : deliverEach(claimed);
+        if (!delivered.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(delivered);
+            deliveredCounter.increment(delivered.size());
+        }
+        return delivered.size();
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        List<OutboxEvent> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = outboxEventRepository.databaseTime();
+            List<OutboxEvent> due = outboxEventRepository.findDueForUpdate(
+                    OutboxEventStatus.PENDING, now, PageRequest.of(0, batchSize));
+            LocalDateTime leasedUntil = now.plus(lease);
+            due.forEach(event -> event.setNextAttemptAt(leasedUntil));
+            return due;
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    private List<UUID> deliverEach(List<OutboxEvent> events) {
+        List<UUID> delivered = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            try {
+                userServiceClient.createUserProfile(readPayload(event));
+                delivered.add(event.getId());
+            } catch (RuntimeException ex) {
+                handleOutcome(event, ex, delivered);
+            }
+        }
+        return delivered;
+    }
+
+    private List<UUID> deliverInBulk(List<OutboxEvent> events) {
+        List<UUID> delivered = new ArrayList<>(events.size());
+        Map<OutboxEvent, CompletableFuture<Void>> submitted = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            try {
+                submitted.put(event, userProfileBatcher.submit(readPayload(event)));
+            } catch (RuntimeException ex) {
+                handleFailure(event, ex);
+            }
+        }
+        userProfileBatcher.flush();
+        submitted.forEach((event, result) -> {
+            try {
+                result.orTimeout(bulkResultTimeout.toMillis(), TimeUnit.MILLISECONDS).join();
+                delivered.add(event.getId());
+            } catch (CompletionException ex) {
+                RuntimeException cause = ex.getCause() instanceof RuntimeException runtime
+                        ? runtime
+                        : new UserServiceIntegrationException(
+                                "Bulk creation timed out for profile " + event.getAggregateId());
+                handleOutcome(event, cause, delivered);
+            }
+        });
+        return delivered;
+    }
+
+    private CreateUserProfileRequest readPayload(OutboxEvent event) {
+        return jsonMapper.readValue(event.getPayload(), CreateUserProfileRequest.class);
+    }
+
+    private void handleOutcome(OutboxEvent event, RuntimeException ex, List<UUID> delivered) {
+        if (ex instanceof HttpClientErrorException.Conflict) {
+            log.info("User profile {} already exists, marking outbox event {} as delivered",
+                    event.getAggregateId(), event.getId());
+            delivered.add(event.getId());
+            return;
+        }
+        handleFailure(event, ex);
+    }
+
+    private void handleFailure(OutboxEvent event, RuntimeException ex) {
+        int attempts = event.getAttempts() + 1;
+        String error = truncate(ex.getClass().getSimpleName() + ": " + ex.getMessage());
+        if (!isRetryable(ex) || attempts >= maxAttempts) {
+            failedCounter.increment();
+            log.error("Giving up on outbox event {} for user {} after {} attempts",
+                    event.getId(), event.getAggregateId(), attempts, ex);
+            outboxEventRepository.reschedule(event.getId(), OutboxEventStatus.FAILED, attempts,
+                    event.getNextAttemptAt(), error);
+            return;
+        }
+        retriedCounter.increment();
+        log.warn("Outbox event {} for user {} failed on attempt {}: {}",
+                event.getId(), event.getAggregateId(), attempts, ex.getMessage());
+        outboxEventRepository.reschedule(event.getId(), OutboxEventStatus.PENDING, attempts,
+                outboxEventRepository.databaseTime().plus(backoff(attempts)), error);
+    }
+
+    Duration backoff(int attempts) {
+        long cap = maxBackoff.toMillis();
+        long exponential = initialBackoff.toMillis() << Math.min(attempts - 1, 30);
+        long ceiling = exponential <= 0 ? cap : Math.min(cap, exponential);
+        long half = ceiling / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(ceiling - half + 1));
+    }
+
+    private boolean isRetryable(RuntimeException ex) {
+        if (ex instanceof JacksonException) {
+            return false;
+        }
+        if (ex instanceof HttpClientErrorException clientError) {
+            return clientError.getStatusCode().isSameCodeAs(HttpStatus.REQUEST_TIMEOUT)
+                    || clientError.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+        }
+        return true;
+    }
+
+    private String truncate(String value) {
+        return value.length() <= MAX_ERROR_LENGTH ? value : value.substring(0, MAX_ERROR_LENGTH);
+    }
+}
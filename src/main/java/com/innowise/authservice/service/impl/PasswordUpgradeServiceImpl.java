@@ -0,0 +1,131 @@
+package com.innowise.authservice.service.impl;
+
+import com.innowise.authservice.config.security.AuthUserDetails;
+import com.innowise.authservice.config.security.BoundedPasswordEncoder;
+import com.innowise.authservice.event.AuthUserChangedEvent;
+import com.innowise.authservice.exception.PasswordHashingUnavailableException;
+import com.innowise.authservice.repository.AuthUserRepository;
+import com.innowise.authservice.service.PasswordUpgradeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+public class PasswordUpgradeServiceImpl implements PasswordUpgradeService, DisposableBean {
+
+    private final AuthUserRepository authUserRepository;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor writeExecutor;
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter upgradedCounter;
+    private final Counter skippedCounter;
+    private final boolean enabled;
+    private final int maxInFlight;
+
+    @Autowired
+    public PasswordUpgradeServiceImpl(AuthUserRepository authUserRepository,
+            BoundedPasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${auth.password-upgrade.enabled:true}") boolean enabled,
+            @Value("${auth.password-upgrade.max-in-flight:4}") int maxInFlight) {
+        this(authUserRepository, passwordEncoder, eventPublisher, meterRegistry, enabled,
+                maxInFlight, Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "password-upgrade-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    PasswordUpgradeServiceImpl(AuthUserRepository authUserRepository,
+            BoundedPasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry, boolean enabled, int maxInFlight,
+            Executor writeExecutor) {
+        this.authUserRepository = authUserRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.writeExecutor = writeExecutor;
+        this.enabled = enabled;
+        this.maxInFlight = maxInFlight;
+        Gauge.builder("auth.password.upgrade.pending", inFlight, Set::size)
+                .register(meterRegistry);
+        this.upgradedCounter = Counter.builder("auth.password.upgrade")
+                .tag("result", "upgraded")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("auth.password.upgrade")
+                .tag("result", "skipped")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void upgradeIfNeeded(AuthUserDetails userDetails, String rawPassword) {
+        String encodedPassword = userDetails.getPassword();
+        UUID userId = userDetails.getUserId();
+        if (!enabled || encodedPassword == null || userId == null
+                || !passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        if (inFlight.size() >= maxInFlight) {
+            skippedCounter.increment();
+            return;
+        }
+        if (!inFlight.add(userId)) {
+            return;
+        }
+        passwordEncoder.encodeAsync(rawPassword).whenCompleteAsync((upgradedPassword, ex) -> {
+            try {
+                if (ex == null) {
+                    store(userId, userDetails.getUsername(), encodedPassword, upgradedPassword);
+                } else {
+                    skip(userId, ex instanceof CompletionException ? ex.getCause() : ex);
+                }
+            } finally {
+                inFlight.remove(userId);
+            }
+        }, writeExecutor);
+    }
+
+    @Override
+    public void destroy() {
+        if (writeExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void store(UUID userId, String username, String encodedPassword,
+            String upgradedPassword) {
+        try {
+            int updated = authUserRepository.updatePasswordIfUnchanged(userId, encodedPassword,
+                    upgradedPassword);
+            if (updated == 0) {
+                skippedCounter.increment();
+                return;
+            }
+            upgradedCounter.increment();
+            eventPublisher.publishEvent(new AuthUserChangedEvent(userId, username));
+        } catch (RuntimeException ex) {
+            skip(userId, ex);
+        }
+    }
+
+    private void skip(UUID userId, Throwable cause) {
+        skippedCounter.increment();
+        if (!(cause instanceof PasswordHashingUnavailableException)) {
+            log.warn("Failed to upgrade password hash for user {}", userId, cause);
+        }
+    }
+}
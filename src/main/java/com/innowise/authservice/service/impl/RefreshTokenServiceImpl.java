@@ -0,0 +1,133 @@
+package com.innowise.authservice.service.impl;
+
+import com.innowise.authservice.exception.RefreshTokenRejectedException;
+import com.innowise.authservice.model.entity.RefreshToken;
+import com.innowise.authservice.model.token.VerifiedToken;
+import com.innowise.authservice.repository.RefreshTokenRepository;
+import com.innowise.authservice.service.RefreshTokenService;
+import com.innowise.authservice.util.TokenDigests;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@Slf4j
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate revocationTransaction;
+    private final Counter rotatedCounter;
+    private final Counter adoptedCounter;
+    private final Counter reusedCounter;
+    private final Counter rejectedCounter;
+    private final Counter purgedCounter;
+    private final long refreshTokenExpiration;
+    private final int purgeBatchSize;
+    private final int purgeMaxBatches;
+    private final boolean adoptLegacy;
+
+    public RefreshTokenServiceImpl(RefreshTokenRepository refreshTokenRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.refresh-expiration}") long refreshTokenExpiration,
+            @Value("${auth.refresh-tokens.purge-batch-size:1000}") int purgeBatchSize,
+            @Value("${auth.refresh-tokens.purge-max-batches:50}") int purgeMaxBatches,
+            @Value("${auth.refresh-tokens.adopt-legacy:true}") boolean adoptLegacy) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+        this.purgeBatchSize = purgeBatchSize;
+        this.purgeMaxBatches = purgeMaxBatches;
+        this.adoptLegacy = adoptLegacy;
+        this.revocationTransaction = new TransactionTemplate(transactionManager);
+        this.revocationTransaction.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rotatedCounter = Counter.builder("auth.refresh-tokens.rotation")
+                .tag("result", "rotated")
+                .register(meterRegistry);
+        this.adoptedCounter = Counter.builder("auth.refresh-tokens.rotation")
+                .tag("result", "adopted")
+                .register(meterRegistry);
+        this.reusedCounter = Counter.builder("auth.refresh-tokens.rotation")
+                .tag("result", "reused")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.refresh-tokens.rotation")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.purgedCounter = Counter.builder("auth.refresh-tokens.purged")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void register(String refreshToken, String username, UUID familyId) {
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.insert(TokenDigests.sha256Base64(refreshToken), familyId, username,
+                now.plusNanos(refreshTokenExpiration * 1_000_000), now);
+    }
+
+    @Override
+    public UUID consume(String refreshToken, VerifiedToken verifiedToken) {
+        String tokenHash = TokenDigests.sha256Base64(refreshToken);
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken stored = refreshTokenRepository.findById(tokenHash).orElse(null);
+        if (stored == null && isLegacy(verifiedToken)) {
+            return adopt(tokenHash, verifiedToken, now);
+        }
+        if (stored == null || !stored.getExpiresAt().isAfter(now)) {
+            rejectedCounter.increment();
+            throw new RefreshTokenRejectedException();
+        }
+        if (stored.getUsedAt() != null || refreshTokenRepository.markUsed(tokenHash, now) == 0) {
+            revocationTransaction.executeWithoutResult(status ->
+                    refreshTokenRepository.deleteFamily(stored.getFamilyId()));
+            reusedCounter.increment();
+            log.warn("Refresh token reuse detected for user {}, token family {} revoked",
+                    stored.getUsername(), stored.getFamilyId());
+            throw new RefreshTokenRejectedException();
+        }
+        rotatedCounter.increment();
+        return stored.getFamilyId();
+    }
+
+    private boolean isLegacy(VerifiedToken verifiedToken) {
+        return adoptLegacy && verifiedToken.getTokenId() == null
+                && verifiedToken.getExpiresAt() != null;
+    }
+
+    private UUID adopt(String tokenHash, VerifiedToken verifiedToken, LocalDateTime now) {
+        UUID familyId = UUID.randomUUID();
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(verifiedToken.getExpiresAt(),
+                ZoneId.systemDefault());
+        if (refreshTokenRepository.insertUsedIfAbsent(tokenHash, familyId,
+                verifiedToken.getSubject(), expiresAt, now) == 0) {
+            rejectedCounter.increment();
+            throw new RefreshTokenRejectedException();
+        }
+        adoptedCounter.increment();
+        return familyId;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${auth.refresh-tokens.purge-interval-ms:60000}")
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+        for (int batch = 0; batch < purgeMaxBatches; batch++) {
+            int deleted = refreshTokenRepository.deleteExpired(now, purgeBatchSize);
+            purged += deleted;
+            if (deleted < purgeBatchSize) {
+                break;
+            }
+        }
+        purgedCounter.increment(purged);
+        return purged;
+    }
+}
@@ -0,0 +1,120 @@
+package com.innowise.authservice.service.impl;
+
+import com.innowise.authservice.cache.TokenRevocationCache;
+import com.innowise.authservice.exception.TokenValidationFailedException;
+import com.innowise.authservice.model.dto.response.RevokeTokenResponse;
+import com.innowise.authservice.model.entity.RevokedToken;
+import com.innowise.authservice.model.token.VerifiedToken;
+import com.innowise.authservice.repository.RevokedTokenRepository;
+import com.innowise.authservice.service.JwtService;
+import com.innowise.authservice.service.TokenRevocationService;
+import com.innowise.authservice.util.TokenDigests;
+import io.jsonwebtoken.JwtException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final JwtService jwtService;
+    private final int syncBatchSize;
+    private final Duration syncOverlap;
+    private final int purgeBatchSize;
+    private final int purgeMaxBatches;
+    private volatile LocalDateTime lastRevokedAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public TokenRevocationServiceImpl(RevokedTokenRepository revokedTokenRepository,
+            TokenRevocationCache tokenRevocationCache, JwtService jwtService,
+            @Value("${auth.revocation.sync-batch-size:1000}") int syncBatchSize,
+            @Value("${auth.revocation.sync-overlap:5s}") Duration syncOverlap,
+            @Value("${auth.revocation.purge-batch-size:1000}") int purgeBatchSize,
+            @Value("${auth.revocation.purge-max-batches:50}") int purgeMaxBatches) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenRevocationCache = tokenRevocationCache;
+        this.jwtService = jwtService;
+        this.syncBatchSize = syncBatchSize;
+        this.syncOverlap = syncOverlap;
+        this.purgeBatchSize = purgeBatchSize;
+        this.purgeMaxBatches = purgeMaxBatches;
+    }
+
+    @Override
+    public RevokeTokenResponse revoke(String token) {
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = jwtService.verifyToken(token);
+        } catch (JwtException | IllegalArgumentException ex) {
+            throw new TokenValidationFailedException("Token is invalid or already expired");
+        }
+
+        String tokenHash = TokenDigests.sha256Base64(token);
+        long fingerprint = TokenRevocationCache.fingerprint(token);
+        revokedTokenRepository.insertIfAbsent(tokenHash, fingerprint, verifiedToken.getSubject(),
+                LocalDateTime.ofInstant(verifiedToken.getExpiresAt(), ZoneId.systemDefault()));
+        tokenRevocationCache.add(tokenHash, fingerprint, verifiedToken.getExpiresAt());
+        log.info("Revoked {} token of user {}", verifiedToken.getTokenType(),
+                verifiedToken.getSubject());
+        return RevokeTokenResponse.builder()
+                .username(verifiedToken.getSubject())
+                .tokenType(verifiedToken.getTokenType())
+                .expiresAt(verifiedToken.getExpiresAt())
+                .build();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval-ms:5000}")
+    public int synchronize() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastRevokedAt.minus(syncOverlap);
+        LocalDateTime newest = lastRevokedAt;
+        String afterHash = "";
+        int loaded = 0;
+        while (true) {
+            List<RevokedToken> page = revokedTokenRepository.findActiveRevokedAfter(since,
+                    afterHash, now, PageRequest.of(0, syncBatchSize));
+            for (RevokedToken revoked : page) {
+                tokenRevocationCache.add(revoked.getTokenHash(), revoked.getFingerprint(),
+                        revoked.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+                if (revoked.getRevokedAt().isAfter(newest)) {
+                    newest = revoked.getRevokedAt();
+                }
+            }
+            loaded += page.size();
+            if (page.size() < syncBatchSize) {
+                break;
+            }
+            RevokedToken last = page.get(page.size() - 1);
+            since = last.getRevokedAt();
+            afterHash = last.getTokenHash();
+        }
+        lastRevokedAt = newest;
+        return loaded;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${auth.revocation.purge-interval-ms:60000}")
+    public int purgeExpired() {
+        tokenRevocationCache.evictExpired(Instant.now());
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+        for (int batch = 0; batch < purgeMaxBatches; batch++) {
+            int deleted = revokedTokenRepository.deleteExpired(now, purgeBatchSize);
+            purged += deleted;
+            if (deleted < purgeBatchSize) {
+                break;
+            }
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,90 @@
+package com.innowise.authservice.service.impl;
+
+import com.innowise.authservice.cache.TokenVersionCache;
+import com.innowise.authservice.cache.ValidateTokenCache;
+import com.innowise.authservice.model.token.UserTokenVersion;
+import com.innowise.authservice.repository.AuthUserRepository;
+import com.innowise.authservice.service.CustomUserDetailsService;
+import com.innowise.authservice.service.TokenVersionService;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TokenVersionServiceImpl implements TokenVersionService {
+
+    private static final UUID MIN_USER_ID = new UUID(0, 0);
+
+    private final AuthUserRepository authUserRepository;
+    private final TokenVersionCache tokenVersionCache;
+    private final ValidateTokenCache validateTokenCache;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final Duration retention;
+    private final int syncBatchSize;
+    private final Duration syncOverlap;
+    private volatile LocalDateTime lastChangedAt;
+
+    public TokenVersionServiceImpl(AuthUserRepository authUserRepository,
+            TokenVersionCache tokenVersionCache, ValidateTokenCache validateTokenCache,
+            CustomUserDetailsService customUserDetailsService,
+            @Value("${jwt.refresh-expiration}") long refreshTokenExpiration,
+            @Value("${auth.token-versions.sync-batch-size:1000}") int syncBatchSize,
+            @Value("${auth.token-versions.sync-overlap:5s}") Duration syncOverlap) {
+        this.authUserRepository = authUserRepository;
+        this.tokenVersionCache = tokenVersionCache;
+        this.validateTokenCache = validateTokenCache;
+        this.customUserDetailsService = customUserDetailsService;
+        this.retention = Duration.ofMillis(refreshTokenExpiration);
+        this.syncBatchSize = syncBatchSize;
+        this.syncOverlap = syncOverlap;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${auth.token-versions.sync-interval-ms:5000}")
+    public int synchronize() {
+        LocalDateTime newest = lastChangedAt;
+        LocalDateTime since = newest == null
+                ? LocalDateTime.now().minus(retention)
+                : newest.minus(syncOverlap);
+        UUID afterId = MIN_USER_ID;
+        int changed = 0;
+        while (true) {
+            List<UserTokenVersion> page = authUserRepository.findTokenVersionsChangedAfter(since,
+                    afterId, PageRequest.of(0, syncBatchSize));
+            for (UserTokenVersion version : page) {
+                if (newest == null || version.getChangedAt().isAfter(newest)) {
+                    newest = version.getChangedAt();
+                }
+                Instant changedAt = version.getChangedAt().atZone(ZoneId.systemDefault())
+                        .toInstant();
+                customUserDetailsService.evictUser(version.getUsername());
+                if (tokenVersionCache.update(version.getUserId(), version.getTokenVersion(),
+                        changedAt)) {
+                    validateTokenCache.evictUser(version.getUsername());
+                    changed++;
+                }
+            }
+            if (page.size() < syncBatchSize) {
+                break;
+            }
+            UserTokenVersion last = page.get(page.size() - 1);
+            since = last.getChangedAt();
+            afterId = last.getUserId();
+        }
+        lastChangedAt = newest;
+        return changed;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${auth.token-versions.evict-interval-ms:60000}")
+    public int evictExpired() {
+        return tokenVersionCache.evictChangedBefore(Instant.now().minus(retention));
+    }
+}
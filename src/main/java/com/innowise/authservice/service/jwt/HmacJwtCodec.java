@@ -0,0 +1,311 @@
+package com.innowise.authservice.service.jwt;
+
+import com.innowise.authservice.model.token.VerifiedToken;
+import com.innowise.authservice.util.ReusablePool;
+import io.jsonwebtoken.JwtException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.Mac;
+import org.springframework.stereotype.Component;
+
+@Component
+public class HmacJwtCodec {
+
+    static final int MAX_TOKEN_LENGTH = 8192;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final byte[] DECODE_TABLE = decodeTable();
+    private static final ReusablePool<Scratch> SCRATCH =
+            new ReusablePool<>(Scratch::new, ReusablePool.defaultCapacity());
+
+    private final JwtKeyring jwtKeyring;
+    private volatile State state;
+
+    public HmacJwtCodec(JwtKeyring jwtKeyring) {
+        this.jwtKeyring = jwtKeyring;
+    }
+
+    public VerifiedToken tryDecode(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new JwtException("Token is empty");
+        }
+        int length = token.length();
+        if (length > MAX_TOKEN_LENGTH) {
+            throw new JwtException("Token is too long");
+        }
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (headerEnd <= 0 || payloadEnd <= headerEnd + 1 || payloadEnd == length - 1
+                || token.indexOf('.', payloadEnd + 1) >= 0) {
+            throw new JwtException("Token must consist of three non-empty parts");
+        }
+
+        HmacEntry entry = currentState().match(token, headerEnd);
+        if (entry == null) {
+            return null;
+        }
+        if (length - payloadEnd - 1 != entry.encodedSignatureLength) {
+            throw new JwtException("Token signature is invalid");
+        }
+
+        Scratch scratch = SCRATCH.acquire();
+        try {
+            return verify(token, headerEnd, payloadEnd, entry, scratch);
+        } finally {
+            SCRATCH.release(scratch);
+        }
+    }
+
+    private VerifiedToken verify(String token, int headerEnd, int payloadEnd, HmacEntry entry,
+            Scratch scratch) {
+        int length = token.length();
+        byte[] signingInput = scratch.input;
+        for (int i = 0; i < payloadEnd; i++) {
+            char current = token.charAt(i);
+            if (current != '.' && (current >= 128 || DECODE_TABLE[current] < 0)) {
+                throw new JwtException("Token contains illegal characters");
+            }
+            signingInput[i] = (byte) current;
+        }
+        int signatureLength = decode(token, payloadEnd + 1, length, scratch.signature);
+
+        Mac mac = entry.macs.acquire();
+        byte[] expected = scratch.mac;
+        try {
+            mac.update(signingInput, 0, payloadEnd);
+            mac.doFinal(expected, 0);
+        } catch (GeneralSecurityException ex) {
+            throw new JwtException("Token signature could not be computed", ex);
+        } finally {
+            entry.macs.release(mac);
+        }
+        if (!constantTimeEquals(expected, scratch.signature, signatureLength)) {
+            throw new JwtException("Token signature is invalid");
+        }
+
+        int payloadLength = decode(token, headerEnd + 1, payloadEnd, scratch.payload);
+        JwtClaimsReader claims = new JwtClaimsReader(scratch.payload, payloadLength);
+        if (!claims.read()) {
+            return null;
+        }
+        if (claims.expiration < 0) {
+            throw new JwtException("Token expiration is missing");
+        }
+        if (claims.expiration * 1000 < System.currentTimeMillis()) {
+            throw new JwtException("Token is expired");
+        }
+        if (claims.tokenType == null) {
+            throw new JwtException("Token type is missing");
+        }
+        return VerifiedToken.builder()
+                .tokenId(claims.tokenId)
+                .subject(claims.subject)
+                .userId(claims.userId)
+                .email(claims.email)
+                .role(claims.role)
+                .accountStatus(claims.accountStatus)
+                .tokenVersion(claims.tokenVersion)
+                .tokenType(claims.tokenType)
+                .expiresAt(Instant.ofEpochSecond(claims.expiration))
+                .build();
+    }
+
+    public boolean canEncode(JwtKey key) {
+        return key.getAlgorithm().isHmac() && currentState().byKid.containsKey(key.getKid());
+    }
+
+    public String encode(JwtKey key, VerifiedToken claims, Date issuedAt) {
+        HmacEntry entry = currentState().byKid.get(key.getKid());
+        if (entry == null) {
+            throw new JwtException("Signing key is not an HMAC key: " + key.getKid());
+        }
+        StringBuilder payload = new StringBuilder(256).append('{');
+        appendString(payload, "jti", claims.getTokenId());
+        appendString(payload, "sub", claims.getSubject());
+        if (claims.getUserId() != null) {
+            appendString(payload, "userId", claims.getUserId().toString());
+        }
+        if (claims.getRole() != null) {
+            appendString(payload, "role", claims.getRole().name());
+        }
+        appendString(payload, "email", claims.getEmail());
+        if (claims.getAccountStatus() != null) {
+            appendString(payload, "accountStatus", claims.getAccountStatus().name());
+        }
+        appendString(payload, "tokenType", claims.getTokenType().name());
+        if (claims.getTokenVersion() > 0) {
+            payload.append("\"tokenVersion\":").append(claims.getTokenVersion()).append(',');
+        }
+        payload.append("\"iat\":").append(issuedAt.getTime() / 1000)
+                .append(",\"exp\":").append(claims.getExpiresAt().getEpochSecond())
+                .append('}');
+
+        String signingInput = entry.header + '.'
+                + ENCODER.encodeToString(payload.toString().getBytes(StandardCharsets.UTF_8));
+        Mac mac = entry.macs.acquire();
+        byte[] signature;
+        try {
+            signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } finally {
+            entry.macs.release(mac);
+        }
+        return signingInput + '.' + ENCODER.encodeToString(signature);
+    }
+
+    private State currentState() {
+        Map<String, JwtKey> keys = jwtKeyring.verificationKeys();
+        State current = state;
+        if (current == null || current.keys != keys) {
+            current = new State(keys, jwtKeyring.verificationKey(null));
+            state = current;
+        }
+        return current;
+    }
+
+    private static void appendString(StringBuilder builder, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        builder.append('"').append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char current = value.charAt(i);
+            switch (current) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (current < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) current));
+                    } else {
+                        builder.append(current);
+                    }
+                }
+            }
+        }
+        builder.append("\",");
+    }
+
+    private static int decode(String source, int start, int end, byte[] target) {
+        int length = end - start;
+        if (length % 4 == 1) {
+            throw new JwtException("Token segment is not valid Base64URL");
+        }
+        int written = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = start; i < end; i++) {
+            char current = source.charAt(i);
+            int value = current < 128 ? DECODE_TABLE[current] : -1;
+            if (value < 0) {
+                throw new JwtException("Token contains illegal characters");
+            }
+            bits = bits << 6 | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                target[written++] = (byte) (bits >> bitCount);
+            }
+        }
+        if ((bits & ((1 << bitCount) - 1)) != 0) {
+            throw new JwtException("Token segment is not valid Base64URL");
+        }
+        return written;
+    }
+
+    private static boolean constantTimeEquals(byte[] expected, byte[] actual, int length) {
+        int result = 0;
+        for (int i = 0; i < length; i++) {
+            result |= expected[i] ^ actual[i];
+        }
+        return result == 0;
+    }
+
+    private static byte[] decodeTable() {
+        byte[] table = new byte[128];
+        Arrays.fill(table, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            table[alphabet.charAt(i)] = (byte) i;
+        }
+        return table;
+    }
+
+    private static String encodeHeader(String json) {
+        return ENCODER.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class State {
+
+        private final Map<String, JwtKey> keys;
+        private final Map<String, HmacEntry> byKid = new HashMap<>();
+        private final List<HmacEntry> headers = new ArrayList<>();
+
+        private State(Map<String, JwtKey> keys, JwtKey legacyKey) {
+            this.keys = keys;
+            for (JwtKey key : keys.values()) {
+                if (!key.getAlgorithm().isHmac()) {
+                    continue;
+                }
+                HmacEntry entry = new HmacEntry(key, encodeHeader("{\"kid\":\"" + key.getKid()
+                        + "\",\"alg\":\"" + key.getAlgorithm().getValue() + "\"}"));
+                byKid.put(key.getKid(), entry);
+                headers.add(entry);
+                if (key == legacyKey) {
+                    headers.add(new HmacEntry(key, encodeHeader(
+                            "{\"alg\":\"" + key.getAlgorithm().getValue() + "\"}")));
+                }
+            }
+        }
+
+        private HmacEntry match(String token, int headerEnd) {
+            for (HmacEntry entry : headers) {
+                if (entry.header.length() == headerEnd
+                        && token.regionMatches(0, entry.header, 0, headerEnd)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class HmacEntry {
+
+        private final String header;
+        private final int encodedSignatureLength;
+        private final ReusablePool<Mac> macs;
+
+        private HmacEntry(JwtKey key, String header) {
+            this.header = header;
+            String jcaName = key.getAlgorithm().getJcaName();
+            this.macs = new ReusablePool<>(() -> {
+                try {
+                    Mac instance = Mac.getInstance(jcaName);
+                    instance.init(key.getVerificationKey());
+                    return instance;
+                } catch (GeneralSecurityException ex) {
+                    throw new IllegalStateException("HMAC is unavailable for key " + key.getKid(), ex);
+                }
+            }, ReusablePool.defaultCapacity());
+            int macLength = key.getAlgorithm().getMinKeyLength() / 8;
+            this.encodedSignatureLength = (macLength * 4 + 2) / 3;
+        }
+    }
+
+    private static final class Scratch {
+
+        private final byte[] input = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] payload = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] signature = new byte[64];
+        private final byte[] mac = new byte[64];
+    }
+}
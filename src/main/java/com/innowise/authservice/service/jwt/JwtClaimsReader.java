@@ -0,0 +1,397 @@
+package com.innowise.authservice.service.jwt;
+
+import com.innowise.authservice.model.entity.type.AccountStatus;
+import com.innowise.authservice.model.entity.type.Role;
+import com.innowise.authservice.model.entity.type.TokenType;
+import io.jsonwebtoken.JwtException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+final class JwtClaimsReader {
+
+    private static final byte[] TOKEN_ID = ascii("jti");
+    private static final byte[] SUBJECT = ascii("sub");
+    private static final byte[] USER_ID = ascii("userId");
+    private static final byte[] EMAIL = ascii("email");
+    private static final byte[] ROLE = ascii("role");
+    private static final byte[] ACCOUNT_STATUS = ascii("accountStatus");
+    private static final byte[] TOKEN_TYPE = ascii("tokenType");
+    private static final byte[] TOKEN_VERSION = ascii("tokenVersion");
+    private static final byte[] EXPIRATION = ascii("exp");
+    private static final byte[] NOT_BEFORE = ascii("nbf");
+
+    private static final EnumNames<Role> ROLES = new EnumNames<>(Role.values());
+    private static final EnumNames<AccountStatus> ACCOUNT_STATUSES =
+            new EnumNames<>(AccountStatus.values());
+    private static final EnumNames<TokenType> TOKEN_TYPES = new EnumNames<>(TokenType.values());
+
+    private final byte[] json;
+    private final int end;
+    private int pos;
+
+    String tokenId;
+    String subject;
+    UUID userId;
+    String email;
+    Role role;
+    AccountStatus accountStatus;
+    TokenType tokenType;
+    int tokenVersion;
+    long expiration = -1;
+
+    JwtClaimsReader(byte[] json, int length) {
+        this.json = json;
+        this.end = length;
+    }
+
+    boolean read() {
+        skipWhitespace();
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return finish();
+        }
+        while (true) {
+            skipWhitespace();
+            expect('"');
+            int keyStart = pos;
+            int keyEnd = scanPlainString();
+            if (keyEnd < 0) {
+                return false;
+            }
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            if (!readValue(keyStart, keyEnd - keyStart)) {
+                return false;
+            }
+            skipWhitespace();
+            byte next = next();
+            if (next == '}') {
+                return finish();
+            }
+            if (next != ',') {
+                throw malformed();
+            }
+        }
+    }
+
+    private boolean finish() {
+        skipWhitespace();
+        if (pos != end) {
+            throw malformed();
+        }
+        return true;
+    }
+
+    private boolean readValue(int keyStart, int keyLength) {
+        byte first = peek();
+        if (first == '{' || first == '[') {
+            return false;
+        }
+        if (keyEquals(keyStart, keyLength, NOT_BEFORE)) {
+            return false;
+        }
+        if (keyEquals(keyStart, keyLength, EXPIRATION)) {
+            if (first == 'n') {
+                skipScalar();
+                return true;
+            }
+            expiration = readLong();
+            return expiration >= 0;
+        }
+        if (first == 'n') {
+            skipScalar();
+            return true;
+        }
+        if (keyEquals(keyStart, keyLength, SUBJECT)) {
+            subject = readString();
+        } else if (keyEquals(keyStart, keyLength, TOKEN_ID)) {
+            tokenId = readString();
+        } else if (keyEquals(keyStart, keyLength, EMAIL)) {
+            email = readString();
+        } else if (keyEquals(keyStart, keyLength, USER_ID)) {
+            userId = readUuid();
+        } else if (keyEquals(keyStart, keyLength, ROLE)) {
+            role = readEnum(ROLES);
+        } else if (keyEquals(keyStart, keyLength, ACCOUNT_STATUS)) {
+            accountStatus = readEnum(ACCOUNT_STATUSES);
+        } else if (keyEquals(keyStart, keyLength, TOKEN_TYPE)) {
+            readTokenType();
+        } else if (keyEquals(keyStart, keyLength, TOKEN_VERSION)) {
+            long version = readLong();
+            if (version < 0 || version > Integer.MAX_VALUE) {
+                throw invalidClaims();
+            }
+            tokenVersion = (int) version;
+        } else {
+            skipScalar();
+        }
+        return true;
+    }
+
+    private void readTokenType() {
+        expect('"');
+        int start = pos;
+        int stringEnd = scanPlainString();
+        if (stringEnd < 0) {
+            throw malformed();
+        }
+        int length = stringEnd - start;
+        if (isBlank(start, length)) {
+            tokenType = null;
+            return;
+        }
+        tokenType = TOKEN_TYPES.match(json, start, length);
+    }
+
+    private <E extends Enum<E>> E readEnum(EnumNames<E> names) {
+        expect('"');
+        int start = pos;
+        int stringEnd = scanPlainString();
+        if (stringEnd < 0) {
+            throw malformed();
+        }
+        return names.match(json, start, stringEnd - start);
+    }
+
+    private UUID readUuid() {
+        expect('"');
+        int start = pos;
+        int stringEnd = scanPlainString();
+        if (stringEnd < 0) {
+            throw malformed();
+        }
+        int length = stringEnd - start;
+        if (length != 36 || json[start + 8] != '-' || json[start + 13] != '-'
+                || json[start + 18] != '-' || json[start + 23] != '-') {
+            try {
+                return UUID.fromString(new String(json, start, length, StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException ex) {
+                throw invalidClaims();
+            }
+        }
+        long most = hex(start, 8) << 32 | hex(start + 9, 4) << 16 | hex(start + 14, 4);
+        long least = hex(start + 19, 4) << 48 | hex(start + 24, 12);
+        return new UUID(most, least);
+    }
+
+    private long hex(int start, int length) {
+        long value = 0;
+        for (int i = start; i < start + length; i++) {
+            int digit = Character.digit(json[i], 16);
+            if (digit < 0) {
+                throw invalidClaims();
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private long readLong() {
+        int start = pos;
+        long value = 0;
+        while (pos < end && json[pos] >= '0' && json[pos] <= '9') {
+            if (pos - start >= 15) {
+                return -1;
+            }
+            value = value * 10 + (json[pos++] - '0');
+        }
+        if (pos == start || (pos < end && (json[pos] == '.' || json[pos] == 'e'
+                || json[pos] == 'E'))) {
+            return -1;
+        }
+        return value;
+    }
+
+    private String readString() {
+        expect('"');
+        int start = pos;
+        int stringEnd = scanPlainString();
+        if (stringEnd >= 0) {
+            return new String(json, start, stringEnd - start, StandardCharsets.UTF_8);
+        }
+        pos = start;
+        return readEscapedString();
+    }
+
+    private String readEscapedString() {
+        StringBuilder builder = new StringBuilder();
+        int chunkStart = pos;
+        while (true) {
+            byte current = next();
+            if (current == '"') {
+                builder.append(new String(json, chunkStart, pos - 1 - chunkStart,
+                        StandardCharsets.UTF_8));
+                return builder.toString();
+            }
+            if (current != '\\') {
+                continue;
+            }
+            builder.append(new String(json, chunkStart, pos - 1 - chunkStart,
+                    StandardCharsets.UTF_8));
+            byte escaped = next();
+            switch (escaped) {
+                case '"', '\\', '/' -> builder.append((char) escaped);
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'n' -> builder.append('\n');
+                case 'r' -> builder.append('\r');
+                case 't' -> builder.append('\t');
+                case 'u' -> {
+                    if (end - pos < 4) {
+                        throw malformed();
+                    }
+                    int codeUnit = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(json[pos++], 16);
+                        if (digit < 0) {
+                            throw malformed();
+                        }
+                        codeUnit = codeUnit << 4 | digit;
+                    }
+                    builder.append((char) codeUnit);
+                }
+                default -> throw malformed();
+            }
+            chunkStart = pos;
+        }
+    }
+
+    private int scanPlainString() {
+        while (pos < end) {
+            byte current = json[pos];
+            if (current == '"') {
+                return pos++;
+            }
+            if (current == '\\') {
+                return -1;
+            }
+            if ((current & 0xFF) < 0x20) {
+                throw malformed();
+            }
+            pos++;
+        }
+        throw malformed();
+    }
+
+    private void skipScalar() {
+        if (peek() == '"') {
+            pos++;
+            int start = pos;
+            if (scanPlainString() < 0) {
+                pos = start;
+                readEscapedString();
+            }
+            return;
+        }
+        int start = pos;
+        while (pos < end) {
+            byte current = json[pos];
+            if (current == ',' || current == '}' || isWhitespace(current)) {
+                break;
+            }
+            pos++;
+        }
+        if (pos == start) {
+            throw malformed();
+        }
+    }
+
+    private boolean keyEquals(int start, int length, byte[] key) {
+        if (length != key.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (json[start + i] != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isBlank(int start, int length) {
+        for (int i = start; i < start + length; i++) {
+            if (!isWhitespace(json[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void skipWhitespace() {
+        while (pos < end && isWhitespace(json[pos])) {
+            pos++;
+        }
+    }
+
+    private boolean isWhitespace(byte value) {
+        return value == ' ' || value == '\t' || value == '\n' || value == '\r';
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            throw malformed();
+        }
+    }
+
+    private byte peek() {
+        if (pos >= end) {
+            throw malformed();
+        }
+        return json[pos];
+    }
+
+    private byte next() {
+        if (pos >= end) {
+            throw malformed();
+        }
+        return json[pos++];
+    }
+
+    private static JwtException malformed() {
+        return new JwtException("Token payload is malformed");
+    }
+
+    private static JwtException invalidClaims() {
+        return new JwtException("Token claims are invalid");
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class EnumNames<E extends Enum<E>> {
+
+        private final E[] values;
+        private final byte[][] names;
+
+        private EnumNames(E[] values) {
+            this.values = values;
+            this.names = new byte[values.length][];
+            for (int i = 0; i < values.length; i++) {
+                names[i] = ascii(values[i].name());
+            }
+        }
+
+        private E match(byte[] json, int start, int length) {
+            for (int i = 0; i < names.length; i++) {
+                byte[] name = names[i];
+                if (name.length == length && regionEquals(json, start, name)) {
+                    return values[i];
+                }
+            }
+            throw invalidClaims();
+        }
+
+        private static boolean regionEquals(byte[] json, int start, byte[] name) {
+            for (int i = 0; i < name.length; i++) {
+                if (json[start + i] != name[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
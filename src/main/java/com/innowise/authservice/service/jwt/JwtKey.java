@@ -0,0 +1,18 @@
+package com.innowise.authservice.service.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.security.Key;
+import lombok.Value;
+
+@Value
+public class JwtKey {
+
+    String kid;
+    SignatureAlgorithm algorithm;
+    Key signingKey;
+    Key verificationKey;
+
+    public boolean canSign() {
+        return signingKey != null;
+    }
+}
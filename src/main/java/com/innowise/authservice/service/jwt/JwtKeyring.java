@@ -0,0 +1,190 @@
+package com.innowise.authservice.service.jwt;
+
+import com.innowise.authservice.config.JwtKeyringProperties;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.boot.env.PropertySourceLoader;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class JwtKeyring {
+
+    private static final String PROPERTIES_PREFIX = "jwt";
+    private static final String KEYRING_FILE_PROPERTY = "jwt.keyring-file";
+
+    private final Environment environment;
+    private final ResourceLoader resourceLoader;
+    private final PemKeyReader pemKeyReader;
+    private volatile Snapshot snapshot;
+
+    public JwtKeyring(Environment environment) {
+        this(environment, new DefaultResourceLoader());
+    }
+
+    @Autowired
+    public JwtKeyring(Environment environment, ResourceLoader resourceLoader) {
+        this.environment = environment;
+        this.resourceLoader = resourceLoader;
+        this.pemKeyReader = new PemKeyReader(resourceLoader);
+        this.snapshot = load();
+    }
+
+    public JwtKey signingKey() {
+        return snapshot.signingKey();
+    }
+
+    public JwtKey verificationKey(String kid) {
+        Snapshot current = snapshot;
+        JwtKey key = current.verificationKeys().get(kid == null ? current.legacyKeyId() : kid);
+        if (key == null) {
+            throw new JwtException("Unknown signing key: " + kid);
+        }
+        return key;
+    }
+
+    public Map<String, JwtKey> verificationKeys() {
+        return snapshot.verificationKeys();
+    }
+
+    public Set<String> verificationKeyIds() {
+        return snapshot.verificationKeys().keySet();
+    }
+
+    public void reload() {
+        Snapshot reloaded = load();
+        snapshot = reloaded;
+        log.info("JWT keyring reloaded: signing key {}, verification keys {}",
+                reloaded.signingKey().getKid(), reloaded.verificationKeys().keySet());
+    }
+
+    private Snapshot load() {
+        JwtKeyringProperties properties = binder()
+                .bind(PROPERTIES_PREFIX, JwtKeyringProperties.class)
+                .orElseGet(JwtKeyringProperties::new);
+
+        Map<String, JwtKey> keys = new LinkedHashMap<>();
+        if (properties.getSecret() != null && !properties.getSecret().isBlank()) {
+            keys.put(JwtKeyringProperties.DEFAULT_KEY_ID, hmacKey(JwtKeyringProperties.DEFAULT_KEY_ID,
+                    SignatureAlgorithm.HS256, properties.getSecret()));
+        }
+        for (JwtKeyringProperties.Key key : properties.getKeys()) {
+            if (key.getKid() == null || key.getKid().isBlank()) {
+                throw new IllegalStateException("JWT key id must not be blank");
+            }
+            keys.put(key.getKid(), toJwtKey(key));
+        }
+
+        JwtKey signingKey = keys.get(properties.getSigningKeyId());
+        if (signingKey == null || !signingKey.canSign()) {
+            throw new IllegalStateException(
+                    "JWT signing key is not configured: " + properties.getSigningKeyId());
+        }
+        String legacyKeyId = keys.containsKey(JwtKeyringProperties.DEFAULT_KEY_ID)
+                ? JwtKeyringProperties.DEFAULT_KEY_ID
+                : signingKey.getKid();
+        return new Snapshot(signingKey, Collections.unmodifiableMap(keys), legacyKeyId);
+    }
+
+    private Binder binder() {
+        String keyringFile = environment.getProperty(KEYRING_FILE_PROPERTY);
+        if (!hasText(keyringFile)) {
+            return Binder.get(environment);
+        }
+        Resource resource = resourceLoader.getResource(keyringFile);
+        PropertySourceLoader loader = keyringFile.endsWith(".properties")
+                ? new PropertiesPropertySourceLoader()
+                : new YamlPropertySourceLoader();
+        List<ConfigurationPropertySource> sources = new ArrayList<>();
+        try {
+            for (PropertySource<?> source : loader.load(keyringFile, resource)) {
+                sources.add(ConfigurationPropertySource.from(source));
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not read JWT keyring file: " + keyringFile, ex);
+        }
+        ConfigurationPropertySources.get(environment).forEach(sources::add);
+        return new Binder(sources, new PropertySourcesPlaceholdersResolver(environment));
+    }
+
+    private JwtKey toJwtKey(JwtKeyringProperties.Key key) {
+        SignatureAlgorithm algorithm;
+        try {
+            algorithm = SignatureAlgorithm.valueOf(key.getAlgorithm());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalStateException("Unsupported JWT algorithm for key " + key.getKid()
+                    + ": " + key.getAlgorithm(), ex);
+        }
+        if (algorithm.isHmac()) {
+            return hmacKey(key.getKid(), algorithm, key.getSecret());
+        }
+        if (!algorithm.isRsa() && !algorithm.isEllipticCurve()) {
+            throw new IllegalStateException("Unsupported JWT algorithm for key " + key.getKid()
+                    + ": " + algorithm);
+        }
+        return asymmetricKey(key, algorithm);
+    }
+
+    private JwtKey hmacKey(String kid, SignatureAlgorithm algorithm, String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("JWT secret is missing for key: " + kid);
+        }
+        SecretKey secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
+                algorithm.getJcaName());
+        algorithm.assertValidSigningKey(secretKey);
+        return new JwtKey(kid, algorithm, secretKey, secretKey);
+    }
+
+    private JwtKey asymmetricKey(JwtKeyringProperties.Key key, SignatureAlgorithm algorithm) {
+        String keyAlgorithm = algorithm.isRsa() ? "RSA" : "EC";
+        PrivateKey privateKey = hasText(key.getPrivateKey())
+                ? pemKeyReader.readPrivateKey(key.getPrivateKey(), keyAlgorithm)
+                : null;
+        PublicKey publicKey;
+        if (hasText(key.getPublicKey())) {
+            publicKey = pemKeyReader.readPublicKey(key.getPublicKey(), keyAlgorithm);
+        } else if (privateKey != null) {
+            publicKey = pemKeyReader.derivePublicKey(privateKey);
+        } else {
+            throw new IllegalStateException("JWT key material is missing for key: " + key.getKid());
+        }
+        if (privateKey != null) {
+            algorithm.assertValidSigningKey(privateKey);
+        }
+        algorithm.assertValidVerificationKey(publicKey);
+        return new JwtKey(key.getKid(), algorithm, privateKey, publicKey);
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private record Snapshot(JwtKey signingKey, Map<String, JwtKey> verificationKeys,
+            String legacyKeyId) {
+    }
+}
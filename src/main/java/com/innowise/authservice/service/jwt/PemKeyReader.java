@@ -0,0 +1,78 @@
+package com.innowise.authservice.service.jwt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+final class PemKeyReader {
+
+    private static final String PEM_PREFIX = "-----BEGIN";
+
+    private final ResourceLoader resourceLoader;
+
+    PemKeyReader(ResourceLoader resourceLoader) {
+        this.resourceLoader = resourceLoader;
+    }
+
+    PrivateKey readPrivateKey(String value, String keyAlgorithm) {
+        try {
+            return KeyFactory.getInstance(keyAlgorithm)
+                    .generatePrivate(new PKCS8EncodedKeySpec(decode(value)));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Invalid " + keyAlgorithm + " private key", ex);
+        }
+    }
+
+    PublicKey readPublicKey(String value, String keyAlgorithm) {
+        try {
+            return KeyFactory.getInstance(keyAlgorithm)
+                    .generatePublic(new X509EncodedKeySpec(decode(value)));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Invalid " + keyAlgorithm + " public key", ex);
+        }
+    }
+
+    PublicKey derivePublicKey(PrivateKey privateKey) {
+        if (!(privateKey instanceof RSAPrivateCrtKey rsaKey)) {
+            throw new IllegalStateException("Public key is required for " + privateKey.getAlgorithm()
+                    + " keys");
+        }
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(
+                    new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Cannot derive RSA public key", ex);
+        }
+    }
+
+    private byte[] decode(String value) {
+        String pem = value.strip().startsWith(PEM_PREFIX) ? value : load(value.strip());
+        StringBuilder body = new StringBuilder();
+        for (String line : pem.split("\\R")) {
+            if (!line.startsWith("-----")) {
+                body.append(line.strip());
+            }
+        }
+        return Base64.getDecoder().decode(body.toString());
+    }
+
+    private String load(String location) {
+        Resource resource = resourceLoader.getResource(location);
+        try (InputStream inputStream = resource.getInputStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.US_ASCII);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Cannot read key from " + location, ex);
+        }
+    }
+}
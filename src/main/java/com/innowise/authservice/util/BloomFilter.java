@@ -0,0 +1,124 @@
+package com.innowise.authservice.util;
+
+import java.nio.LongBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class BloomFilter {
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final AtomicLong bitCount = new AtomicLong();
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        this(optimalBitSize(expectedInsertions, falsePositiveRate),
+                optimalHashFunctions(expectedInsertions, falsePositiveRate));
+    }
+
+    public BloomFilter(long bitSize, int hashFunctions) {
+        int wordCount = Math.toIntExact((Math.max(64, bitSize) + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = wordCount * 64L;
+        this.hashFunctions = Math.max(1, hashFunctions);
+    }
+
+    public static BloomFilter readFrom(LongBuffer source, long bitSize, int hashFunctions) {
+        BloomFilter filter = new BloomFilter(bitSize, hashFunctions);
+        if (filter.bitSize != bitSize || source.remaining() < filter.words.length()) {
+            throw new IllegalArgumentException("Bloom filter data does not match its size");
+        }
+        long bitCount = 0;
+        for (int i = 0; i < filter.words.length(); i++) {
+            long word = source.get();
+            filter.words.set(i, word);
+            bitCount += Long.bitCount(word);
+        }
+        filter.bitCount.set(bitCount);
+        return filter;
+    }
+
+    public static long hash(CharSequence value) {
+        long h = SEED ^ value.length();
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    public boolean put(long hash) {
+        long h2 = mix(hash ^ SEED) | 1;
+        boolean changed = false;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hash + i * h2, bitSize);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word = words.get(index);
+            while ((word & mask) == 0) {
+                long witness = words.compareAndExchange(index, word, word | mask);
+                if (witness == word) {
+                    bitCount.incrementAndGet();
+                    changed = true;
+                    break;
+                }
+                word = witness;
+            }
+        }
+        return changed;
+    }
+
+    public boolean mightContain(long hash) {
+        long h2 = mix(hash ^ SEED) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hash + i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitCount.get() / bitSize, hashFunctions);
+    }
+
+    public void writeTo(LongBuffer target) {
+        for (int i = 0; i < words.length(); i++) {
+            target.put(words.get(i));
+        }
+    }
+
+    public int wordCount() {
+        return words.length();
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    static long optimalBitSize(long expectedInsertions, double falsePositiveRate) {
+        long insertions = Math.max(1, expectedInsertions);
+        return (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    }
+
+    static int optimalHashFunctions(long expectedInsertions, double falsePositiveRate) {
+        long insertions = Math.max(1, expectedInsertions);
+        long bits = optimalBitSize(insertions, falsePositiveRate);
+        return Math.max(1, (int) Math.round((double) bits / insertions * Math.log(2)));
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
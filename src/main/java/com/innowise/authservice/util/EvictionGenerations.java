@@ -0,0 +1,32 @@
+package com.innowise.authservice.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class EvictionGenerations {
+
+    private final AtomicLongArray generations;
+    private final int mask;
+
+    public EvictionGenerations(int stripes) {
+        int stripeCount = Integer.highestOneBit(Math.max(1, stripes) * 2 - 1);
+        this.generations = new AtomicLongArray(stripeCount);
+        this.mask = stripeCount - 1;
+    }
+
+    public long current(String key) {
+        return generations.get(index(key));
+    }
+
+    public void advance(String key) {
+        generations.incrementAndGet(index(key));
+    }
+
+    public boolean changedSince(String key, long generation) {
+        return current(key) != generation;
+    }
+
+    private int index(String key) {
+        int hash = key.hashCode();
+        return (hash ^ hash >>> 16) & mask;
+    }
+}
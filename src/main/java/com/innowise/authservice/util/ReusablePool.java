@@ -0,0 +1,35 @@
+package com.innowise.authservice.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+
+public final class ReusablePool<T> {
+
+    private final Supplier<T> factory;
+    private final ThreadLocal<T> platformInstances;
+    private final ArrayBlockingQueue<T> virtualInstances;
+
+    public ReusablePool(Supplier<T> factory, int virtualCapacity) {
+        this.factory = factory;
+        this.platformInstances = ThreadLocal.withInitial(factory);
+        this.virtualInstances = new ArrayBlockingQueue<>(virtualCapacity);
+    }
+
+    public static int defaultCapacity() {
+        return Runtime.getRuntime().availableProcessors() * 4;
+    }
+
+    public T acquire() {
+        if (!Thread.currentThread().isVirtual()) {
+            return platformInstances.get();
+        }
+        T instance = virtualInstances.poll();
+        return instance != null ? instance : factory.get();
+    }
+
+    public void release(T instance) {
+        if (Thread.currentThread().isVirtual()) {
+            virtualInstances.offer(instance);
+        }
+    }
+}
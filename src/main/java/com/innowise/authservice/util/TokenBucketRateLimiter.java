@@ -0,0 +1,127 @@
+package com.innowise.authservice.util;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class TokenBucketRateLimiter {
+
+    private final long refillIntervalNanos;
+    private final long capacityNanos;
+    private final int maxKeysPerStripe;
+    private final ConcurrentHashMap<String, Bucket>[] stripes;
+    private final int mask;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketRateLimiter(int capacity, Duration period, int maxKeys, int stripes) {
+        this(capacity, period, maxKeys, stripes, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    TokenBucketRateLimiter(int capacity, Duration period, int maxKeys, int stripes,
+            LongSupplier nanoClock) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Rate limit capacity must be positive");
+        }
+        if (period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Rate limit period must be positive");
+        }
+        int stripeCount = Integer.highestOneBit(Math.max(1, stripes) * 2 - 1);
+        this.refillIntervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.capacityNanos = refillIntervalNanos * capacity;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+        this.stripes = new ConcurrentHashMap[stripeCount];
+        this.mask = stripeCount - 1;
+        this.nanoClock = nanoClock;
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        return bucket(key, now).tryAcquire(now);
+    }
+
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int evicted = 0;
+        for (ConcurrentHashMap<String, Bucket> stripe : stripes) {
+            evicted += evictIdle(stripe, now);
+        }
+        return evicted;
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, Bucket> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private Bucket bucket(String key, long now) {
+        int hash = key.hashCode();
+        int index = (hash ^ hash >>> 16) & mask;
+        ConcurrentHashMap<String, Bucket> stripe = stripes[index];
+        Bucket bucket = stripe.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (stripe.size() >= maxKeysPerStripe && evictIdle(stripe, now) == 0) {
+            evictLeastLoaded(stripe);
+        }
+        return stripe.computeIfAbsent(key, ignored -> new Bucket(now));
+    }
+
+    private int evictIdle(ConcurrentHashMap<String, Bucket> stripe, long now) {
+        int sizeBefore = stripe.size();
+        stripe.values().removeIf(bucket -> bucket.isFull(now));
+        return sizeBefore - stripe.size();
+    }
+
+    private void evictLeastLoaded(ConcurrentHashMap<String, Bucket> stripe) {
+        String leastLoadedKey = null;
+        Bucket leastLoaded = null;
+        for (Map.Entry<String, Bucket> entry : stripe.entrySet()) {
+            Bucket candidate = entry.getValue();
+            if (leastLoaded == null || candidate.fullAt.get() - leastLoaded.fullAt.get() < 0) {
+                leastLoadedKey = entry.getKey();
+                leastLoaded = candidate;
+            }
+        }
+        if (leastLoadedKey != null) {
+            stripe.remove(leastLoadedKey, leastLoaded);
+        }
+    }
+
+    private final class Bucket {
+
+        private final AtomicLong fullAt;
+
+        private Bucket(long now) {
+            this.fullAt = new AtomicLong(now);
+        }
+
+        private long tryAcquire(long now) {
+            while (true) {
+                long current = fullAt.get();
+                long base = current - now > 0 ? current : now;
+                long next = base + refillIntervalNanos;
+                long wait = next - now - capacityNanos;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        private boolean isFull(long now) {
+            return fullAt.get() - now <= 0;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.innowise.authservice.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public final class TokenDigests {
+
+    private static final ReusablePool<MessageDigest> SHA_256 = new ReusablePool<>(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }, ReusablePool.defaultCapacity());
+
+    private TokenDigests() {
+    }
+
+    public static byte[] sha256(String token) {
+        MessageDigest digest = SHA_256.acquire();
+        try {
+            digest.reset();
+            return digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+        } finally {
+            SHA_256.release(digest);
+        }
+    }
+
+    public static String sha256Base64(String token) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(token));
+    }
+}
@@ -0,0 +1,60 @@
+package com.innowise.authservice.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.innowise.authservice.reactive.service.ReactiveAuthService;
+import com.innowise.authservice.service.JwtService;
+import io.r2dbc.spi.ConnectionFactory;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(classes = ReactiveAuthServiceApplication.class, properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=",
+        "spring.r2dbc.pool.enabled=false",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:reactive-schema.sql",
+        "jwt.secret=0123456789abcdef0123456789abcdef",
+        "jwt.expiration=60000",
+        "jwt.refresh-expiration=120000"
+})
+@ActiveProfiles(ReactiveAuthServiceApplication.PROFILE)
+class ReactiveAuthServiceApplicationTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToApplicationContext(context).build();
+    }
+
+    @Test
+    void contextLoads_withR2dbcInsteadOfJpa() {
+        assertEquals(1, context.getBeanNamesForType(ConnectionFactory.class).length);
+        assertEquals(0, context.getBeanNamesForType(DataSource.class).length);
+        assertTrue(context.getBeanNamesForType(ReactiveAuthService.class).length > 0);
+        assertTrue(context.getBeanNamesForType(JwtService.class).length > 0);
+    }
+
+    @Test
+    void validate_withInvalidToken_isRejectedByReactiveRoute() {
+        webTestClient.post()
+                .uri("/api/v1/auth/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"token\":\"not-a-token\"}")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+}
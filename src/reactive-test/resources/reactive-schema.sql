@@ -0,0 +1,31 @@
+create table if not exists auth_users (
+    id uuid primary key,
+    username varchar(50) not null unique,
+    email varchar(100) not null unique,
+    password varchar(255) not null,
+    role varchar(20) not null,
+    created_at timestamp not null,
+    updated_at timestamp not null,
+    account_not_expired boolean not null,
+    accounts_not_locked boolean not null,
+    credentials_not_expired boolean not null,
+    enabled boolean not null,
+    token_version int default 0 not null
+);
+
+create table if not exists revoked_tokens (
+    token_hash varchar(64) primary key,
+    fingerprint bigint not null,
+    username varchar(50),
+    expires_at timestamp not null,
+    revoked_at timestamp not null
+);
+
+create table if not exists refresh_tokens (
+    token_hash varchar(64) primary key,
+    family_id uuid not null,
+    username varchar(50) not null,
+    expires_at timestamp not null,
+    used_at timestamp,
+    created_at timestamp not null
+);
@@ -0,0 +1,41 @@
+package com.innowise.authservice.reactive;
+
+import com.innowise.authservice.cache.TokenRevocationCache;
+import com.innowise.authservice.cache.TokenVersionCache;
+import com.innowise.authservice.cache.ValidateTokenCache;
+import com.innowise.authservice.config.SchedulingConfig;
+import com.innowise.authservice.config.security.PasswordEncoderConfig;
+import com.innowise.authservice.mapper.AuthUserMapper;
+import com.innowise.authservice.mapper.TokenResponseMapper;
+import com.innowise.authservice.service.impl.JwtServiceImpl;
+import com.innowise.authservice.service.jwt.HmacJwtCodec;
+import com.innowise.authservice.service.jwt.JwtKeyring;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+
+@SpringBootApplication
+@Profile(ReactiveAuthServiceApplication.PROFILE)
+@Import({
+        JwtKeyring.class,
+        HmacJwtCodec.class,
+        JwtServiceImpl.class,
+        TokenResponseMapper.class,
+        AuthUserMapper.class,
+        ValidateTokenCache.class,
+        TokenRevocationCache.class,
+        TokenVersionCache.class,
+        PasswordEncoderConfig.class,
+        SchedulingConfig.class
+})
+public class ReactiveAuthServiceApplication {
+
+    public static final String PROFILE = "reactive";
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveAuthServiceApplication.class)
+                .profiles(PROFILE)
+                .run(args);
+    }
+}
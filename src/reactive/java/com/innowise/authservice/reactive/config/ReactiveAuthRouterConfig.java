@@ -0,0 +1,28 @@
+package com.innowise.authservice.reactive.config;
+
+import com.innowise.authservice.reactive.ReactiveAuthServiceApplication;
+import com.innowise.authservice.reactive.handler.ReactiveAuthHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+@Configuration
+@Profile(ReactiveAuthServiceApplication.PROFILE)
+public class ReactiveAuthRouterConfig {
+
+    @Bean
+    public RouterFunction<ServerResponse> authRoutes(ReactiveAuthHandler handler) {
+        return RouterFunctions.route()
+                .path("/api/v1/auth", builder -> builder
+                        .nest(RequestPredicates.contentType(MediaType.APPLICATION_JSON), json -> json
+                                .POST("/login", handler::login)
+                                .POST("/refresh", handler::refreshToken)
+                                .POST("/validate", handler::validateToken)))
+                .build();
+    }
+}
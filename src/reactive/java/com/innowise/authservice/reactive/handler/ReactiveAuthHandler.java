@@ -0,0 +1,102 @@
+package com.innowise.authservice.reactive.handler;
+
+import com.innowise.authservice.exception.AccessTokenRejectedException;
+import com.innowise.authservice.exception.AuthUserNotFoundException;
+import com.innowise.authservice.exception.ErrorResponse;
+import com.innowise.authservice.exception.LoginFailedException;
+import com.innowise.authservice.exception.PasswordHashingUnavailableException;
+import com.innowise.authservice.exception.RefreshTokenRejectedException;
+import com.innowise.authservice.exception.TokenValidationFailedException;
+import com.innowise.authservice.exception.ValidationErrorResponse;
+import com.innowise.authservice.model.dto.request.LoginRequest;
+import com.innowise.authservice.model.dto.request.RefreshTokenRequest;
+import com.innowise.authservice.model.dto.request.ValidateTokenRequest;
+import com.innowise.authservice.reactive.ReactiveAuthServiceApplication;
+import com.innowise.authservice.reactive.service.ReactiveAuthService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+@Component
+@Profile(ReactiveAuthServiceApplication.PROFILE)
+@RequiredArgsConstructor
+public class ReactiveAuthHandler {
+
+    private final ReactiveAuthService authService;
+    private final Validator validator;
+
+    public Mono<ServerResponse> login(ServerRequest request) {
+        return handle(request, LoginRequest.class, authService::createTokens);
+    }
+
+    public Mono<ServerResponse> refreshToken(ServerRequest request) {
+        return handle(request, RefreshTokenRequest.class, authService::refreshTokens);
+    }
+
+    public Mono<ServerResponse> validateToken(ServerRequest request) {
+        return handle(request, ValidateTokenRequest.class, authService::validateToken);
+    }
+
+    private <T, R> Mono<ServerResponse> handle(ServerRequest request, Class<T> bodyType,
+            Function<T, Mono<R>> operation) {
+        return request.bodyToMono(bodyType)
+                .switchIfEmpty(Mono.error(() ->
+                        new TokenValidationFailedException("Request body is required")))
+                .flatMap(body -> {
+                    Set<ConstraintViolation<T>> violations = validator.validate(body);
+                    if (!violations.isEmpty()) {
+                        return validationFailed(violations);
+                    }
+                    return operation.apply(body)
+                            .flatMap(response -> ServerResponse.ok().bodyValue(response));
+                })
+                .onErrorResume(this::handleError);
+    }
+
+    private <T> Mono<ServerResponse> validationFailed(Set<ConstraintViolation<T>> violations) {
+        Map<String, String> errors = new HashMap<>();
+        for (ConstraintViolation<T> violation : violations) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return ServerResponse.badRequest()
+                .bodyValue(ValidationErrorResponse.builder().errors(errors).build());
+    }
+
+    private Mono<ServerResponse> handleError(Throwable ex) {
+        if (ex instanceof PasswordHashingUnavailableException unavailable) {
+            return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER,
+                            String.valueOf(Math.max(1, unavailable.getRetryAfter().toSeconds())))
+                    .bodyValue(error(ex));
+        }
+        if (ex instanceof LoginFailedException
+                || ex instanceof RefreshTokenRejectedException
+                || ex instanceof AccessTokenRejectedException) {
+            return ServerResponse.status(HttpStatus.UNAUTHORIZED).bodyValue(error(ex));
+        }
+        if (ex instanceof AuthUserNotFoundException) {
+            return ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue(error(ex));
+        }
+        if (ex instanceof TokenValidationFailedException || ex instanceof ServerWebInputException) {
+            return ServerResponse.status(HttpStatus.BAD_REQUEST).bodyValue(error(ex));
+        }
+        return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .bodyValue(ErrorResponse.builder().message("Unexpected error").build());
+    }
+
+    private ErrorResponse error(Throwable ex) {
+        return ErrorResponse.builder().message(ex.getMessage()).build();
+    }
+}
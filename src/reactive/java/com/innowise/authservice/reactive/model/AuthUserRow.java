@@ -0,0 +1,56 @@
+package com.innowise.authservice.reactive.model;
+
+import com.innowise.authservice.model.entity.type.Role;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("auth_users")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuthUserRow {
+
+    @Id
+    private UUID id;
+
+    @Column("username")
+    private String username;
+
+    @Column("password")
+    private String password;
+
+    @Column("email")
+    private String email;
+
+    @Column("role")
+    private Role role;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column("account_not_expired")
+    private boolean accountNotExpired = true;
+
+    @Column("accounts_not_locked")
+    private boolean accountsNotLocked = true;
+
+    @Column("credentials_not_expired")
+    private boolean credentialsNotExpired = true;
+
+    @Column("enabled")
+    private boolean enabled = true;
+
+    @Column("token_version")
+    private int tokenVersion;
+}
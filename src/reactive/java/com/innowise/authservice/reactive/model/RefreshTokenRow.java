@@ -0,0 +1,38 @@
+package com.innowise.authservice.reactive.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("refresh_tokens")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshTokenRow {
+
+    @Id
+    @Column("token_hash")
+    private String tokenHash;
+
+    @Column("family_id")
+    private UUID familyId;
+
+    @Column("username")
+    private String username;
+
+    @Column("expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column("used_at")
+    private LocalDateTime usedAt;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+}
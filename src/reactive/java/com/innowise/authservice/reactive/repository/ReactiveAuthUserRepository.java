@@ -0,0 +1,33 @@
+package com.innowise.authservice.reactive.repository;
+
+import com.innowise.authservice.reactive.model.AuthUserRow;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAuthUserRepository extends ReactiveCrudRepository<AuthUserRow, UUID> {
+
+    Mono<AuthUserRow> findByUsername(String username);
+
+    Flux<AuthUserRow> findAllByUsernameIn(Collection<String> usernames);
+
+    Mono<AuthUserRow> findByEmail(String email);
+
+    Mono<Boolean> existsByUsername(String username);
+
+    Mono<Boolean> existsByEmail(String email);
+
+    @Query("select username from auth_users where username = :username or email = :email")
+    Flux<String> findUsernamesByUsernameOrEmail(@Param("username") String username,
+            @Param("email") String email);
+
+    @Query("select * from auth_users where token_version > 0 and (updated_at > :since "
+            + "or (updated_at = :since and id > :afterId)) order by updated_at, id limit :limit")
+    Flux<AuthUserRow> findTokenVersionsChangedAfter(@Param("since") LocalDateTime since,
+            @Param("afterId") UUID afterId, @Param("limit") int limit);
+}
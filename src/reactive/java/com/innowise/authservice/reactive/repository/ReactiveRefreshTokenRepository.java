@@ -0,0 +1,38 @@
+package com.innowise.authservice.reactive.repository;
+
+import com.innowise.authservice.reactive.model.RefreshTokenRow;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveRefreshTokenRepository extends ReactiveCrudRepository<RefreshTokenRow, String> {
+
+    @Modifying
+    @Query("insert into refresh_tokens (token_hash, family_id, username, expires_at, created_at) "
+            + "values (:tokenHash, :familyId, :username, :expiresAt, :createdAt)")
+    Mono<Integer> insert(@Param("tokenHash") String tokenHash, @Param("familyId") UUID familyId,
+            @Param("username") String username, @Param("expiresAt") LocalDateTime expiresAt,
+            @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("insert into refresh_tokens (token_hash, family_id, username, expires_at, used_at, "
+            + "created_at) values (:tokenHash, :familyId, :username, :expiresAt, :usedAt, :usedAt) "
+            + "on conflict do nothing")
+    Mono<Integer> insertUsedIfAbsent(@Param("tokenHash") String tokenHash,
+            @Param("familyId") UUID familyId, @Param("username") String username,
+            @Param("expiresAt") LocalDateTime expiresAt, @Param("usedAt") LocalDateTime usedAt);
+
+    @Modifying
+    @Query("update refresh_tokens set used_at = :usedAt "
+            + "where token_hash = :tokenHash and used_at is null")
+    Mono<Integer> markUsed(@Param("tokenHash") String tokenHash,
+            @Param("usedAt") LocalDateTime usedAt);
+
+    @Modifying
+    @Query("delete from refresh_tokens where family_id = :familyId")
+    Mono<Integer> deleteFamily(@Param("familyId") UUID familyId);
+}
@@ -0,0 +1,18 @@
+package com.innowise.authservice.reactive.repository;
+
+import com.innowise.authservice.reactive.model.RevokedTokenRow;
+import java.time.LocalDateTime;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveRevokedTokenRepository extends ReactiveCrudRepository<RevokedTokenRow, String> {
+
+    @Query("select * from revoked_tokens where expires_at > :now and (revoked_at > :since "
+            + "or (revoked_at = :since and token_hash > :afterHash)) "
+            + "order by revoked_at, token_hash limit :limit")
+    Flux<RevokedTokenRow> findActiveRevokedAfter(@Param("since") LocalDateTime since,
+            @Param("afterHash") String afterHash, @Param("now") LocalDateTime now,
+            @Param("limit") int limit);
+}
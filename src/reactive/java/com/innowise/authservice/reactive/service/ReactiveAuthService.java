@@ -0,0 +1,17 @@
+package com.innowise.authservice.reactive.service;
+
+import com.innowise.authservice.model.dto.request.LoginRequest;
+import com.innowise.authservice.model.dto.request.RefreshTokenRequest;
+import com.innowise.authservice.model.dto.request.ValidateTokenRequest;
+import com.innowise.authservice.model.dto.response.TokenResponse;
+import com.innowise.authservice.model.dto.response.ValidateTokenResponse;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAuthService {
+
+    Mono<TokenResponse> createTokens(LoginRequest request);
+
+    Mono<TokenResponse> refreshTokens(RefreshTokenRequest request);
+
+    Mono<ValidateTokenResponse> validateToken(ValidateTokenRequest request);
+}
@@ -0,0 +1,75 @@
+package com.innowise.authservice.reactive.service;
+
+import com.innowise.authservice.cache.TokenRevocationCache;
+import com.innowise.authservice.reactive.ReactiveAuthServiceApplication;
+import com.innowise.authservice.reactive.model.RevokedTokenRow;
+import com.innowise.authservice.reactive.repository.ReactiveRevokedTokenRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile(ReactiveAuthServiceApplication.PROFILE)
+public class ReactiveRevocationSynchronizer {
+
+    private final ReactiveRevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final int syncBatchSize;
+    private final Duration syncOverlap;
+    private volatile LocalDateTime lastRevokedAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public ReactiveRevocationSynchronizer(ReactiveRevokedTokenRepository revokedTokenRepository,
+            TokenRevocationCache tokenRevocationCache,
+            @Value("${auth.revocation.sync-batch-size:1000}") int syncBatchSize,
+            @Value("${auth.revocation.sync-overlap:5s}") Duration syncOverlap) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenRevocationCache = tokenRevocationCache;
+        this.syncBatchSize = syncBatchSize;
+        this.syncOverlap = syncOverlap;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval-ms:5000}")
+    public int synchronize() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastRevokedAt.minus(syncOverlap);
+        LocalDateTime newest = lastRevokedAt;
+        String afterHash = "";
+        int loaded = 0;
+        while (true) {
+            List<RevokedTokenRow> page = revokedTokenRepository
+                    .findActiveRevokedAfter(since, afterHash, now, syncBatchSize)
+                    .collectList()
+                    .block();
+            if (page == null) {
+                break;
+            }
+            for (RevokedTokenRow revoked : page) {
+                tokenRevocationCache.add(revoked.getTokenHash(), revoked.getFingerprint(),
+                        revoked.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+                if (revoked.getRevokedAt().isAfter(newest)) {
+                    newest = revoked.getRevokedAt();
+                }
+            }
+            loaded += page.size();
+            if (page.size() < syncBatchSize) {
+                break;
+            }
+            RevokedTokenRow last = page.get(page.size() - 1);
+            since = last.getRevokedAt();
+            afterHash = last.getTokenHash();
+        }
+        lastRevokedAt = newest;
+        return loaded;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.purge-interval-ms:60000}")
+    public int evictExpired() {
+        return tokenRevocationCache.evictExpired(Instant.now());
+    }
+}
@@ -0,0 +1,87 @@
+package com.innowise.authservice.reactive.service;
+
+import com.innowise.authservice.cache.TokenVersionCache;
+import com.innowise.authservice.cache.ValidateTokenCache;
+import com.innowise.authservice.reactive.ReactiveAuthServiceApplication;
+import com.innowise.authservice.reactive.model.AuthUserRow;
+import com.innowise.authservice.reactive.repository.ReactiveAuthUserRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile(ReactiveAuthServiceApplication.PROFILE)
+public class ReactiveTokenVersionSynchronizer {
+
+    private static final UUID MIN_USER_ID = new UUID(0, 0);
+
+    private final ReactiveAuthUserRepository authUserRepository;
+    private final TokenVersionCache tokenVersionCache;
+    private final ValidateTokenCache validateTokenCache;
+    private final Duration retention;
+    private final int syncBatchSize;
+    private final Duration syncOverlap;
+    private volatile LocalDateTime lastChangedAt;
+
+    public ReactiveTokenVersionSynchronizer(ReactiveAuthUserRepository authUserRepository,
+            TokenVersionCache tokenVersionCache, ValidateTokenCache validateTokenCache,
+            @Value("${jwt.refresh-expiration}") long refreshTokenExpiration,
+            @Value("${auth.token-versions.sync-batch-size:1000}") int syncBatchSize,
+            @Value("${auth.token-versions.sync-overlap:5s}") Duration syncOverlap) {
+        this.authUserRepository = authUserRepository;
+        this.tokenVersionCache = tokenVersionCache;
+        this.validateTokenCache = validateTokenCache;
+        this.retention = Duration.ofMillis(refreshTokenExpiration);
+        this.syncBatchSize = syncBatchSize;
+        this.syncOverlap = syncOverlap;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token-versions.sync-interval-ms:5000}")
+    public int synchronize() {
+        LocalDateTime newest = lastChangedAt;
+        LocalDateTime since = newest == null
+                ? LocalDateTime.now().minus(retention)
+                : newest.minus(syncOverlap);
+        UUID afterId = MIN_USER_ID;
+        int changed = 0;
+        while (true) {
+            List<AuthUserRow> page = authUserRepository
+                    .findTokenVersionsChangedAfter(since, afterId, syncBatchSize)
+                    .collectList()
+                    .block();
+            if (page == null) {
+                break;
+            }
+            for (AuthUserRow row : page) {
+                if (newest == null || row.getUpdatedAt().isAfter(newest)) {
+                    newest = row.getUpdatedAt();
+                }
+                Instant changedAt = row.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant();
+                if (tokenVersionCache.update(row.getId(), row.getTokenVersion(), changedAt)) {
+                    validateTokenCache.evictUser(row.getUsername());
+                    changed++;
+                }
+            }
+            if (page.size() < syncBatchSize) {
+                break;
+            }
+            AuthUserRow last = page.get(page.size() - 1);
+            since = last.getUpdatedAt();
+            afterId = last.getId();
+        }
+        lastChangedAt = newest;
+        return changed;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token-versions.evict-interval-ms:60000}")
+    public int evictExpired() {
+        return tokenVersionCache.evictChangedBefore(Instant.now().minus(retention));
+    }
+}
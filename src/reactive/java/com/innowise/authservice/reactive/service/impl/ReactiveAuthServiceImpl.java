@@ -0,0 +1,229 @@
+package com.innowise.authservice.reactive.service.impl;
+
+import com.innowise.authservice.cache.TokenRevocationCache;
+import com.innowise.authservice.cache.ValidateTokenCache;
+import com.innowise.authservice.config.security.AuthUserDetails;
+import com.innowise.authservice.config.security.BoundedPasswordEncoder;
+import com.innowise.authservice.config.security.ValidationMode;
+import com.innowise.authservice.exception.AccessTokenRejectedException;
+import com.innowise.authservice.exception.AuthUserNotFoundException;
+import com.innowise.authservice.exception.LoginFailedException;
+import com.innowise.authservice.exception.RefreshTokenRejectedException;
+import com.innowise.authservice.mapper.AuthUserMapper;
+import com.innowise.authservice.model.dto.request.LoginRequest;
+import com.innowise.authservice.model.dto.request.RefreshTokenRequest;
+import com.innowise.authservice.model.dto.request.ValidateTokenRequest;
+import com.innowise.authservice.model.dto.response.TokenResponse;
+import com.innowise.authservice.model.dto.response.ValidateTokenResponse;
+import com.innowise.authservice.model.entity.AuthUser;
+import com.innowise.authservice.model.entity.type.AccountStatus;
+import com.innowise.authservice.model.entity.type.TokenType;
+import com.innowise.authservice.model.token.VerifiedToken;
+import com.innowise.authservice.reactive.ReactiveAuthServiceApplication;
+import com.innowise.authservice.reactive.model.AuthUserRow;
+import com.innowise.authservice.reactive.model.RefreshTokenRow;
+import com.innowise.authservice.reactive.repository.ReactiveAuthUserRepository;
+import com.innowise.authservice.reactive.repository.ReactiveRefreshTokenRepository;
+import com.innowise.authservice.reactive.service.ReactiveAuthService;
+import com.innowise.authservice.service.JwtService;
+import com.innowise.authservice.util.TokenDigests;
+import io.jsonwebtoken.JwtException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile(ReactiveAuthServiceApplication.PROFILE)
+public class ReactiveAuthServiceImpl implements ReactiveAuthService {
+
+    private final ReactiveAuthUserRepository authUserRepository;
+    private final ReactiveRefreshTokenRepository refreshTokenRepository;
+    private final JwtService jwtService;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final AuthUserMapper authUserMapper;
+    private final ValidateTokenCache validateTokenCache;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final TransactionalOperator rotationTransaction;
+    private final TransactionalOperator revocationTransaction;
+
+    @Value("${auth.validation-mode:strict}")
+    private ValidationMode validationMode = ValidationMode.STRICT;
+
+    @Value("${jwt.refresh-expiration}")
+    private long refreshTokenExpiration;
+
+    @Value("${auth.refresh-tokens.adopt-legacy:true}")
+    private boolean adoptLegacy = true;
+
+    public ReactiveAuthServiceImpl(ReactiveAuthUserRepository authUserRepository,
+            ReactiveRefreshTokenRepository refreshTokenRepository, JwtService jwtService,
+            BoundedPasswordEncoder passwordEncoder, AuthUserMapper authUserMapper,
+            ValidateTokenCache validateTokenCache, TokenRevocationCache tokenRevocationCache,
+            ReactiveTransactionManager transactionManager) {
+        this.authUserRepository = authUserRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtService = jwtService;
+        this.passwordEncoder = passwordEncoder;
+        this.authUserMapper = authUserMapper;
+        this.validateTokenCache = validateTokenCache;
+        this.tokenRevocationCache = tokenRevocationCache;
+        this.rotationTransaction = TransactionalOperator.create(transactionManager);
+        this.revocationTransaction = TransactionalOperator.create(transactionManager,
+                new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Override
+    public Mono<TokenResponse> createTokens(LoginRequest request) {
+        return loadUserDetails(request.getUsername())
+                .flatMap(userDetails -> {
+                    AccountStatus accountStatus = userDetails.getAccountStatus();
+                    if (accountStatus != AccountStatus.ACTIVE
+                            && accountStatus != AccountStatus.CREDENTIALS_EXPIRED) {
+                        return Mono.error(new LoginFailedException("Account is " + accountStatus));
+                    }
+                    return Mono.fromFuture(() -> passwordEncoder.matchesAsync(
+                                    request.getPassword(), userDetails.getPassword()))
+                            .flatMap(matches -> {
+                                if (!matches) {
+                                    return Mono.error(new LoginFailedException(
+                                            "Incorrect username or password"));
+                                }
+                                if (accountStatus == AccountStatus.CREDENTIALS_EXPIRED) {
+                                    return Mono.error(new LoginFailedException(
+                                            "Account is " + accountStatus));
+                                }
+                                return issueTokens(userDetails, UUID.randomUUID());
+                            });
+                });
+    }
+
+    @Override
+    public Mono<TokenResponse> refreshTokens(RefreshTokenRequest request) {
+        String refreshToken = request.getRefreshToken();
+        if (tokenRevocationCache.isRevoked(refreshToken)) {
+            return Mono.error(new RefreshTokenRejectedException());
+        }
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = jwtService.verifyToken(refreshToken);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Mono.error(new RefreshTokenRejectedException());
+        }
+        if (verifiedToken.getTokenType() != TokenType.REFRESH) {
+            return Mono.error(new RefreshTokenRejectedException());
+        }
+
+        return consume(refreshToken, verifiedToken)
+                .flatMap(familyId -> loadUserDetails(verifiedToken.getSubject())
+                        .flatMap(userDetails -> issueTokens(userDetails, familyId)))
+                .as(rotationTransaction::transactional);
+    }
+
+    @Override
+    public Mono<ValidateTokenResponse> validateToken(ValidateTokenRequest request) {
+        String token = request.getToken();
+        if (tokenRevocationCache.isRevoked(token)) {
+            return Mono.error(new AccessTokenRejectedException("Access token is revoked"));
+        }
+        ValidateTokenResponse cachedResponse = validateTokenCache.get(token);
+        if (cachedResponse != null) {
+            return Mono.just(cachedResponse);
+        }
+
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = jwtService.verifyToken(token);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Mono.error(new AccessTokenRejectedException());
+        }
+
+        long generation = validateTokenCache.generation(verifiedToken.getSubject());
+        Mono<ValidateTokenResponse> response = validationMode == ValidationMode.STATELESS
+                && verifiedToken.isSelfContained()
+                ? Mono.fromCallable(() -> validateFromClaims(verifiedToken))
+                : loadUserDetails(verifiedToken.getSubject())
+                        .map(authUserMapper::toValidateTokenResponse);
+        return response.doOnNext(validated ->
+                validateTokenCache.put(token, validated, verifiedToken.getExpiresAt(), generation));
+    }
+
+    private Mono<TokenResponse> issueTokens(AuthUserDetails userDetails, UUID familyId) {
+        TokenResponse tokens = jwtService.generateTokens(userDetails);
+        LocalDateTime now = LocalDateTime.now();
+        return refreshTokenRepository.insert(TokenDigests.sha256Base64(tokens.getRefreshToken()),
+                        familyId, userDetails.getUsername(),
+                        now.plusNanos(refreshTokenExpiration * 1_000_000), now)
+                .thenReturn(tokens);
+    }
+
+    private Mono<UUID> consume(String refreshToken, VerifiedToken verifiedToken) {
+        String tokenHash = TokenDigests.sha256Base64(refreshToken);
+        LocalDateTime now = LocalDateTime.now();
+        return refreshTokenRepository.findById(tokenHash)
+                .flatMap(stored -> {
+                    if (!stored.getExpiresAt().isAfter(now)) {
+                        return Mono.error(new RefreshTokenRejectedException());
+                    }
+                    if (stored.getUsedAt() != null) {
+                        return revokeFamily(stored);
+                    }
+                    return refreshTokenRepository.markUsed(tokenHash, now)
+                            .flatMap(updated -> updated == 0
+                                    ? revokeFamily(stored)
+                                    : Mono.just(stored.getFamilyId()));
+                })
+                .switchIfEmpty(Mono.defer(() -> isLegacy(verifiedToken)
+                        ? adopt(tokenHash, verifiedToken, now)
+                        : Mono.error(new RefreshTokenRejectedException())));
+    }
+
+    private boolean isLegacy(VerifiedToken verifiedToken) {
+        return adoptLegacy && verifiedToken.getTokenId() == null
+                && verifiedToken.getExpiresAt() != null;
+    }
+
+    private Mono<UUID> adopt(String tokenHash, VerifiedToken verifiedToken, LocalDateTime now) {
+        UUID familyId = UUID.randomUUID();
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(verifiedToken.getExpiresAt(),
+                ZoneId.systemDefault());
+        return refreshTokenRepository.insertUsedIfAbsent(tokenHash, familyId,
+                        verifiedToken.getSubject(), expiresAt, now)
+                .flatMap(inserted -> inserted == 0
+                        ? Mono.error(new RefreshTokenRejectedException())
+                        : Mono.just(familyId));
+    }
+
+    private Mono<UUID> revokeFamily(RefreshTokenRow stored) {
+        return refreshTokenRepository.deleteFamily(stored.getFamilyId())
+                .as(revocationTransaction::transactional)
+                .then(Mono.error(new RefreshTokenRejectedException()));
+    }
+
+    private ValidateTokenResponse validateFromClaims(VerifiedToken verifiedToken) {
+        if (verifiedToken.getAccountStatus() != AccountStatus.ACTIVE) {
+            throw new AccessTokenRejectedException("Account is " + verifiedToken.getAccountStatus());
+        }
+        return authUserMapper.toValidateTokenResponse(verifiedToken);
+    }
+
+    private Mono<AuthUserDetails> loadUserDetails(String username) {
+        return authUserRepository.findByUsername(username)
+                .map(row -> new AuthUserDetails(toAuthUser(row)))
+                .switchIfEmpty(Mono.error(() -> new AuthUserNotFoundException("username: " + username)));
+    }
+
+    private AuthUser toAuthUser(AuthUserRow row) {
+        return new AuthUser(row.getId(), row.getUsername(), row.getPassword(), row.getEmail(),
+                row.getRole(), row.getCreatedAt(), row.getUpdatedAt(), row.isAccountNotExpired(),
+                row.isAccountsNotLocked(), row.isCredentialsNotExpired(), row.isEnabled(),
+                row.getTokenVersion());
+    }
+}
@@ -0,0 +1,78 @@
+package com.innowise.authservice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.innowise.authservice.util.BloomFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CredentialsFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CredentialsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new CredentialsFilter(meterRegistry);
+    }
+
+    @Test
+    void mightContain_beforeFilterIsBuilt_assumesPresent() {
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightContainUsername("user"));
+        assertTrue(filter.mightContainEmail("user@example.com"));
+    }
+
+    @Test
+    void mightContain_keepsUsernamesAndEmailsApart() {
+        filter.replace(new BloomFilter(1_000, 0.001));
+
+        filter.add("user", "user@example.com");
+
+        assertTrue(filter.mightContainUsername("user"));
+        assertTrue(filter.mightContainEmail("user@example.com"));
+        assertFalse(filter.mightContainUsername("other"));
+        assertFalse(filter.mightContainEmail("user"));
+        assertEquals(2.0, meterRegistry.get("auth.credentials-filter.negative").counter().count());
+    }
+
+    @Test
+    void restoreSnapshot_readsBackFilterAndWatermark(@TempDir Path directory) throws IOException {
+        Path snapshot = directory.resolve("filter.bin");
+        Instant syncedUpTo = Instant.ofEpochMilli(1_700_000_000_000L);
+        filter.replace(new BloomFilter(1_000, 0.01));
+        for (int i = 0; i < 100; i++) {
+            filter.add("user-" + i, "user-" + i + "@example.com");
+        }
+
+        filter.writeSnapshot(snapshot, syncedUpTo);
+        CredentialsFilter restored = new CredentialsFilter(new SimpleMeterRegistry());
+
+        assertEquals(Optional.of(syncedUpTo), restored.restoreSnapshot(snapshot));
+        for (int i = 0; i < 100; i++) {
+            assertTrue(restored.mightContainUsername("user-" + i));
+            assertTrue(restored.mightContainEmail("user-" + i + "@example.com"));
+        }
+        assertEquals(filter.expectedFalsePositiveRate(), restored.expectedFalsePositiveRate());
+    }
+
+    @Test
+    void restoreSnapshot_ignoresMissingOrForeignFiles(@TempDir Path directory) throws IOException {
+        Path foreign = directory.resolve("foreign.bin");
+        Files.write(foreign, new byte[64]);
+
+        assertTrue(filter.restoreSnapshot(directory.resolve("missing.bin")).isEmpty());
+        assertTrue(filter.restoreSnapshot(foreign).isEmpty());
+        assertFalse(filter.isReady());
+    }
+}
@@ -0,0 +1,59 @@
+package com.innowise.authservice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.innowise.authservice.util.TokenDigests;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TokenRevocationCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TokenRevocationCache(meterRegistry, 1_000, 0.001);
+    }
+
+    @Test
+    void isRevoked_whenTokenAdded_returnsTrue() {
+        revoke("token", Instant.now().plusSeconds(60));
+
+        assertTrue(cache.isRevoked("token"));
+        assertFalse(cache.isRevoked("other-token"));
+    }
+
+    @Test
+    void isRevoked_whenFilterPositiveButDigestUnknown_returnsFalse() {
+        cache.add(TokenDigests.sha256Base64("other-token"), TokenRevocationCache.fingerprint("token"),
+                Instant.now().plusSeconds(60));
+
+        assertFalse(cache.isRevoked("token"));
+        assertEquals(1.0,
+                meterRegistry.get("auth.revocation.filter.false-positive").counter().count());
+    }
+
+    @Test
+    void evictExpired_dropsExpiredEntriesAndRebuildsFilter() {
+        revoke("expired", Instant.now().minusSeconds(1));
+        revoke("live", Instant.now().plusSeconds(60));
+
+        assertEquals(1, cache.evictExpired(Instant.now()));
+
+        assertEquals(1, cache.size());
+        assertFalse(cache.isRevoked("expired"));
+        assertTrue(cache.isRevoked("live"));
+        assertEquals(1.0, meterRegistry.get("auth.revocation.filter.positive").counter().count());
+    }
+
+    private void revoke(String token, Instant expiresAt) {
+        cache.add(TokenDigests.sha256Base64(token), TokenRevocationCache.fingerprint(token),
+                expiresAt);
+    }
+}
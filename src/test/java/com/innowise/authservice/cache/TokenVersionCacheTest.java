@@ -0,0 +1,92 @@
+package com.innowise.authservice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.innowise.authservice.event.AuthUserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TokenVersionCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenVersionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TokenVersionCache(meterRegistry, 8);
+    }
+
+    @Test
+    void isCurrent_whenUserUnknown_acceptsAnyVersion() {
+        assertTrue(cache.isCurrent(UUID.randomUUID(), 0));
+        assertTrue(cache.isCurrent(null, 0));
+    }
+
+    @Test
+    void isCurrent_rejectsTokensBelowStoredVersion() {
+        UUID userId = UUID.randomUUID();
+        cache.update(userId, 2, Instant.now());
+
+        assertFalse(cache.isCurrent(userId, 1));
+        assertTrue(cache.isCurrent(userId, 2));
+        assertEquals(1.0, meterRegistry.get("auth.token-versions.outdated").counter().count());
+    }
+
+    @Test
+    void update_neverLowersStoredVersion() {
+        UUID userId = UUID.randomUUID();
+
+        assertTrue(cache.update(userId, 3, Instant.now()));
+        assertFalse(cache.update(userId, 2, Instant.now()));
+        assertFalse(cache.update(userId, 3, Instant.now()));
+
+        assertEquals(3, cache.version(userId));
+    }
+
+    @Test
+    void update_growsTableWithoutLosingEntries() {
+        List<UUID> userIds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            UUID userId = UUID.randomUUID();
+            userIds.add(userId);
+            cache.update(userId, i + 1, Instant.now());
+        }
+
+        assertEquals(100, cache.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            assertEquals(i + 1, cache.version(userIds.get(i)));
+        }
+    }
+
+    @Test
+    void evictChangedBefore_dropsOnlyOldEntries() {
+        UUID oldUser = UUID.randomUUID();
+        UUID recentUser = UUID.randomUUID();
+        Instant now = Instant.now();
+        cache.update(oldUser, 1, now.minusSeconds(3600));
+        cache.update(recentUser, 1, now);
+
+        assertEquals(1, cache.evictChangedBefore(now.minusSeconds(60)));
+
+        assertEquals(0, cache.version(oldUser));
+        assertEquals(1, cache.version(recentUser));
+    }
+
+    @Test
+    void onAuthUserChanged_recordsPublishedVersion() {
+        UUID userId = UUID.randomUUID();
+
+        cache.onAuthUserChanged(new AuthUserChangedEvent(userId, "user", 4));
+        cache.onAuthUserChanged(new AuthUserChangedEvent(userId, "user"));
+
+        assertEquals(4, cache.version(userId));
+    }
+}
@@ -0,0 +1,109 @@
+package com.innowise.authservice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.innowise.authservice.event.AuthUserChangedEvent;
+import com.innowise.authservice.model.dto.response.ValidateTokenResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ValidateTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ValidateTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ValidateTokenCache(meterRegistry, true, 100, Duration.ofMinutes(10));
+    }
+
+  @Test
+  void get_afterPut_returnsCachedResponseAndRecordsStats() {
+    ValidateTokenResponse response = response("user");
+    cache.put("token", response, Instant.now().plusSeconds(60), 0);
+
+    assertNull(cache.get("other-token"));
+    assertSame(response, cache.get("token"));
+    assertEquals(1, cache.stats().hitCount());
+    assertEquals(1, cache.stats().missCount());
+    assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+  }
+
+  @Test
+  void put_whenTokenAlreadyExpired_doesNotCache() {
+    cache.put("token", response("user"), Instant.now().minusSeconds(1), 0);
+
+    assertNull(cache.get("token"));
+  }
+
+  @Test
+  void onAuthUserChanged_evictsEntriesOfThatUser() {
+    cache.put("token-1", response("user"), Instant.now().plusSeconds(60), 0);
+    cache.put("token-2", response("other"), Instant.now().plusSeconds(60), 0);
+
+    cache.onAuthUserChanged(new AuthUserChangedEvent(UUID.randomUUID(), "user"));
+
+    assertNull(cache.get("token-1"));
+    assertEquals("other", cache.get("token-2").getUsername());
+  }
+
+  @Test
+  void evictUser_dropsIndexSoEvictionDoesNotScanCache() {
+    cache.put("token-1", response("user"), Instant.now().plusSeconds(60), 0);
+    cache.put("token-2", response("user"), Instant.now().plusSeconds(60), 0);
+    cache.put("token-3", response("other"), Instant.now().plusSeconds(60), 0);
+
+    cache.evictUser("user");
+
+    assertNull(cache.get("token-1"));
+    assertNull(cache.get("token-2"));
+    assertEquals("other", cache.get("token-3").getUsername());
+    assertEquals(1, cache.indexedUsers());
+  }
+
+  @Test
+  void put_whenUserEvictedWhileResponseWasComputed_skipsStaleResponse() {
+    long generation = cache.generation("user");
+    cache.evictUser("user");
+
+    cache.put("token", response("user"), Instant.now().plusSeconds(60), generation);
+
+    assertNull(cache.get("token"));
+    cache.put("token", response("user"), Instant.now().plusSeconds(60), cache.generation("user"));
+    assertEquals("user", cache.get("token").getUsername());
+  }
+
+  @Test
+  void sizeEviction_removesDigestFromUserIndex() {
+    ValidateTokenCache small = new ValidateTokenCache(meterRegistry, true, 1, Duration.ofMinutes(10));
+    for (int i = 0; i < 50; i++) {
+      small.put("token-" + i, response("user-" + i), Instant.now().plusSeconds(60), 0);
+    }
+    small.cleanUp();
+
+    assertTrue(small.indexedUsers() <= 1);
+  }
+
+  @Test
+  void get_whenDisabled_returnsNull() {
+    ValidateTokenCache disabled = new ValidateTokenCache(meterRegistry, false, 100, Duration.ofMinutes(10));
+    disabled.put("token", response("user"), Instant.now().plusSeconds(60), 0);
+
+    assertNull(disabled.get("token"));
+  }
+
+    private ValidateTokenResponse response(String username) {
+        return ValidateTokenResponse.builder()
+                .valid(true)
+                .username(username)
+                .build();
+    }
+}
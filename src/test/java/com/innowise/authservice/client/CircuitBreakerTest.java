@@ -0,0 +1,91 @@
+package com.innowise.authservice.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private CircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  void setUp() {
+    circuitBreaker = new CircuitBreaker(10, 4, 50, Duration.ofSeconds(5), 2, clock::get);
+  }
+
+  @Test
+  void staysClosedUntilMinimumCallsRecorded() {
+    fail(3);
+
+    assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    assertTrue(circuitBreaker.tryAcquire());
+  }
+
+  @Test
+  void opensWhenFailureRateReachesThreshold() {
+    succeed(2);
+    fail(2);
+
+    assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    assertFalse(circuitBreaker.tryAcquire());
+  }
+
+  @Test
+  void slidingWindowForgetsOldFailures() {
+    fail(1);
+    succeed(9);
+    succeed(1);
+    fail(4);
+
+    assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+  }
+
+  @Test
+  void halfOpenProbesCloseCircuitAfterSuccesses() {
+    fail(4);
+    clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+    assertTrue(circuitBreaker.tryAcquire());
+    assertTrue(circuitBreaker.tryAcquire());
+    assertFalse(circuitBreaker.tryAcquire());
+    assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+
+    circuitBreaker.onSuccess();
+    circuitBreaker.onSuccess();
+
+    assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    assertTrue(circuitBreaker.tryAcquire());
+  }
+
+  @Test
+  void halfOpenFailureReopensCircuit() {
+    fail(4);
+    clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+    assertTrue(circuitBreaker.tryAcquire());
+    circuitBreaker.onFailure();
+
+    assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    assertFalse(circuitBreaker.tryAcquire());
+  }
+
+  private void fail(int times) {
+    for (int i = 0; i < times; i++) {
+      circuitBreaker.tryAcquire();
+      circuitBreaker.onFailure();
+    }
+  }
+
+  private void succeed(int times) {
+    for (int i = 0; i < times; i++) {
+      circuitBreaker.tryAcquire();
+      circuitBreaker.onSuccess();
+    }
+  }
+}
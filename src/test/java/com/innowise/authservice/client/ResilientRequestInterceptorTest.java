@@ -0,0 +1,118 @@
+package com.innowise.authservice.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.innowise.authservice.exception.UserServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class ResilientRequestInterceptorTest {
+
+  private final MockClientHttpRequest request =
+      new MockClientHttpRequest(HttpMethod.POST, URI.create("http://user-service/api/users/internal"));
+  private SimpleMeterRegistry meterRegistry;
+  private CircuitBreaker circuitBreaker;
+  private ResilientRequestInterceptor interceptor;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    circuitBreaker = new CircuitBreaker(4, 2, 50, Duration.ofMinutes(1), 1);
+    interceptor = new ResilientRequestInterceptor(1, Duration.ZERO, circuitBreaker, meterRegistry);
+  }
+
+  @Test
+  void intercept_recordsLatencyForSuccessfulCall() throws IOException {
+    ClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.CREATED);
+    ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+    when(execution.execute(any(), any())).thenReturn(response);
+
+    assertSame(response, interceptor.intercept(request, new byte[0], execution));
+    assertEquals(1, meterRegistry.get("auth.userservice.client.calls")
+        .tag("outcome", "success").timer().count());
+    assertEquals(0.0, meterRegistry.get("auth.userservice.client.in-flight").gauge().value());
+  }
+
+  @Test
+  void intercept_opensCircuitAfterServerErrorsAndFailsFast() throws IOException {
+    ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+    when(execution.execute(any(), any())).thenAnswer(invocation ->
+        new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE));
+
+    interceptor.intercept(request, new byte[0], execution);
+    interceptor.intercept(request, new byte[0], execution);
+
+    assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    ClientHttpRequestExecution next = mock(ClientHttpRequestExecution.class);
+    assertThrows(UserServiceUnavailableException.class,
+        () -> interceptor.intercept(request, new byte[0], next));
+    verify(next, never()).execute(any(), any());
+    assertEquals(1, meterRegistry.get("auth.userservice.client.calls")
+        .tag("outcome", "short_circuited").timer().count());
+  }
+
+  @Test
+  void intercept_countsIoErrorsAsFailures() throws IOException {
+    ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+    when(execution.execute(any(), any())).thenThrow(new IOException("read timed out"));
+
+    assertThrows(IOException.class, () -> interceptor.intercept(request, new byte[0], execution));
+    assertThrows(IOException.class, () -> interceptor.intercept(request, new byte[0], execution));
+
+    assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+  }
+
+  @Test
+  void intercept_rejectsCallsBeyondBulkhead() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ClientHttpRequestExecution slow = mock(ClientHttpRequestExecution.class);
+    when(slow.execute(any(), any())).thenAnswer(invocation -> {
+      started.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return new MockClientHttpResponse(new byte[0], HttpStatus.CREATED);
+    });
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<ClientHttpResponse> inFlight = executor.submit(
+          () -> interceptor.intercept(request, new byte[0], slow));
+      started.await(5, TimeUnit.SECONDS);
+
+      assertEquals(1.0, meterRegistry.get("auth.userservice.client.utilization").gauge().value());
+      ClientHttpRequestExecution next = mock(ClientHttpRequestExecution.class);
+      assertThrows(UserServiceUnavailableException.class,
+          () -> interceptor.intercept(request, new byte[0], next));
+      verify(next, never()).execute(any(), any());
+
+      release.countDown();
+      inFlight.get(5, TimeUnit.SECONDS);
+      assertEquals(1, meterRegistry.get("auth.userservice.client.calls")
+          .tag("outcome", "rejected").timer().count());
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+}
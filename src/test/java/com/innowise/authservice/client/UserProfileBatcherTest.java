@@ -0,0 +1,202 @@
+package com.innowise.authservice.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.innowise.authservice.exception.UserServiceIntegrationException;
+import com.innowise.authservice.model.dto.request.BatchCreateUserProfileRequest;
+import com.innowise.authservice.model.dto.request.CreateUserProfileRequest;
+import com.innowise.authservice.model.dto.response.BatchCreateUserProfileResponse;
+import com.innowise.authservice.model.dto.response.UserProfileCreationResult;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+import tools.jackson.databind.json.JsonMapper;
+
+class UserProfileBatcherTest {
+
+  private final JsonMapper jsonMapper = JsonMapper.builder().build();
+  private final List<BatchCreateUserProfileRequest> receivedBatches = new CopyOnWriteArrayList<>();
+  private final List<String> receivedSecrets = new CopyOnWriteArrayList<>();
+
+  private HttpServer server;
+  private volatile Set<UUID> conflictingIds = Set.of();
+  private volatile Set<UUID> omittedIds = Set.of();
+  private volatile int batchStatus = 200;
+  private volatile Set<UUID> statuslessIds = Set.of();
+  private UserServiceClient userServiceClient;
+  private UserProfileBatcher batcher;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/api/users/internal/batch", this::handleBatch);
+    server.start();
+
+    userServiceClient = new UserServiceClient(RestClient.create());
+    ReflectionTestUtils.setField(userServiceClient, "userServiceUrl",
+        "http://127.0.0.1:" + server.getAddress().getPort());
+    ReflectionTestUtils.setField(userServiceClient, "internalSecret", "secret");
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (batcher != null) {
+      batcher.destroy();
+    }
+    server.stop(0);
+  }
+
+  @Test
+  void submit_sendsOneCallWhenSizeCapIsReached() throws Exception {
+    batcher = new UserProfileBatcher(userServiceClient, new SimpleMeterRegistry(), 3,
+        Duration.ofMinutes(1));
+
+    List<CompletableFuture<Void>> results = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      results.add(batcher.submit(profile()));
+    }
+
+    for (CompletableFuture<Void> result : results) {
+      assertNull(result.get(5, TimeUnit.SECONDS));
+    }
+    assertEquals(1, receivedBatches.size());
+    assertEquals(3, receivedBatches.get(0).getProfiles().size());
+    assertEquals(List.of("secret"), receivedSecrets);
+  }
+
+  @Test
+  void submit_flushesPartialBatchAfterWindow() throws Exception {
+    batcher = new UserProfileBatcher(userServiceClient, new SimpleMeterRegistry(), 100,
+        Duration.ofMillis(200));
+
+    CompletableFuture<Void> first = batcher.submit(profile());
+    CompletableFuture<Void> second = batcher.submit(profile());
+
+    first.get(5, TimeUnit.SECONDS);
+    second.get(5, TimeUnit.SECONDS);
+    assertEquals(1, receivedBatches.size());
+    assertEquals(2, receivedBatches.get(0).getProfiles().size());
+  }
+
+  @Test
+  void flush_mapsPerItemResultsBackToCallers() {
+    batcher = new UserProfileBatcher(userServiceClient, new SimpleMeterRegistry(), 100,
+        Duration.ofMinutes(1));
+    CreateUserProfileRequest created = profile();
+    CreateUserProfileRequest conflicting = profile();
+    CreateUserProfileRequest omitted = profile();
+    conflictingIds = Set.of(conflicting.getId());
+    omittedIds = Set.of(omitted.getId());
+
+    CompletableFuture<Void> createdResult = batcher.submit(created);
+    CompletableFuture<Void> conflictingResult = batcher.submit(conflicting);
+    CompletableFuture<Void> omittedResult = batcher.submit(omitted);
+    batcher.flush();
+
+    assertNull(createdResult.join());
+    assertInstanceOf(HttpClientErrorException.Conflict.class, failureOf(conflictingResult));
+    assertInstanceOf(UserServiceIntegrationException.class, failureOf(omittedResult));
+    assertEquals(1, receivedBatches.size());
+  }
+
+  @Test
+  void flush_whenBatchCallFails_failsEveryCaller() {
+    batcher = new UserProfileBatcher(userServiceClient, new SimpleMeterRegistry(), 100,
+        Duration.ofMinutes(1));
+    batchStatus = 503;
+
+    CompletableFuture<Void> first = batcher.submit(profile());
+    CompletableFuture<Void> second = batcher.submit(profile());
+    batcher.flush();
+
+    assertInstanceOf(HttpServerErrorException.ServiceUnavailable.class, failureOf(first));
+    assertInstanceOf(HttpServerErrorException.ServiceUnavailable.class, failureOf(second));
+  }
+
+  @Test
+  void flush_whenResultHasNoStatus_failsOnlyThatCaller() {
+    batcher = new UserProfileBatcher(userServiceClient, new SimpleMeterRegistry(), 100,
+        Duration.ofMinutes(1));
+    CreateUserProfileRequest statusless = profile();
+    CreateUserProfileRequest created = profile();
+    statuslessIds = Set.of(statusless.getId());
+
+    CompletableFuture<Void> statuslessResult = batcher.submit(statusless);
+    CompletableFuture<Void> createdResult = batcher.submit(created);
+    batcher.flush();
+
+    assertInstanceOf(UserServiceIntegrationException.class, failureOf(statuslessResult));
+    assertNull(createdResult.join());
+  }
+
+  private Throwable failureOf(CompletableFuture<Void> result) {
+    return assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS))
+        .getCause();
+  }
+
+  private void handleBatch(HttpExchange exchange) throws IOException {
+    BatchCreateUserProfileRequest batch = jsonMapper.readValue(exchange.getRequestBody(),
+        BatchCreateUserProfileRequest.class);
+    receivedBatches.add(batch);
+    receivedSecrets.add(exchange.getRequestHeaders().getFirst("X-INTERNAL-SECRET"));
+
+    byte[] body;
+    if (batchStatus == 200) {
+      List<UserProfileCreationResult> results = new ArrayList<>();
+      for (CreateUserProfileRequest profile : batch.getProfiles()) {
+        if (omittedIds.contains(profile.getId())) {
+          continue;
+        }
+        boolean conflict = conflictingIds.contains(profile.getId());
+        results.add(UserProfileCreationResult.builder()
+            .id(profile.getId())
+            .status(statuslessIds.contains(profile.getId()) ? 0 : conflict ? 409 : 201)
+            .message(conflict ? "Profile already exists" : null)
+            .build());
+      }
+      body = jsonMapper.writeValueAsBytes(BatchCreateUserProfileResponse.builder()
+          .results(results)
+          .build());
+    } else {
+      body = "{}".getBytes(StandardCharsets.UTF_8);
+    }
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(batchStatus, body.length);
+    try (OutputStream output = exchange.getResponseBody()) {
+      output.write(body);
+    }
+  }
+
+  private CreateUserProfileRequest profile() {
+    UUID id = UUID.randomUUID();
+    return CreateUserProfileRequest.builder()
+        .id(id)
+        .name("Name")
+        .surname("Surname")
+        .email(id + "@example.com")
+        .build();
+  }
+}
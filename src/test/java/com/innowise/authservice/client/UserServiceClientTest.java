@@ -0,0 +1,64 @@
+package com.innowise.authservice.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.innowise.authservice.model.dto.request.CreateUserProfileRequest;
+import com.innowise.authservice.model.dto.response.BatchCreateUserProfileResponse;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+class UserServiceClientTest {
+
+  private static final String BASE_URL = "http://userservice";
+
+  private MockRestServiceServer server;
+  private UserServiceClient client;
+
+  @BeforeEach
+  void setUp() {
+    RestClient.Builder builder = RestClient.builder();
+    server = MockRestServiceServer.bindTo(builder).build();
+    client = new UserServiceClient(builder.build());
+    ReflectionTestUtils.setField(client, "userServiceUrl", BASE_URL);
+    ReflectionTestUtils.setField(client, "internalSecret", "secret");
+  }
+
+  @Test
+  void createUserProfile_sendsIdAsIdempotencyKey() {
+    UUID id = UUID.randomUUID();
+    server.expect(requestTo(BASE_URL + "/api/users/internal"))
+        .andExpect(header("Idempotency-Key", id.toString()))
+        .andRespond(withSuccess());
+
+    client.createUserProfile(CreateUserProfileRequest.builder().id(id).build());
+
+    server.verify();
+  }
+
+  @Test
+  void createUserProfiles_sendsOneIdempotencyKeyPerProfile() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    server.expect(requestTo(BASE_URL + "/api/users/internal/batch"))
+        .andExpect(jsonPath("$.idempotencyKeys[0]").value(first.toString()))
+        .andExpect(jsonPath("$.idempotencyKeys[1]").value(second.toString()))
+        .andRespond(withSuccess("{\"results\":[]}", MediaType.APPLICATION_JSON));
+
+    BatchCreateUserProfileResponse response = client.createUserProfiles(List.of(
+        CreateUserProfileRequest.builder().id(first).build(),
+        CreateUserProfileRequest.builder().id(second).build()));
+
+    assertEquals(List.of(), response.getResults());
+    server.verify();
+  }
+}
@@ -0,0 +1,34 @@
+package com.innowise.authservice.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class BCryptStrengthCalibratorTest {
+
+    private final BCryptStrengthCalibrator calibrator =
+            new BCryptStrengthCalibrator(strength -> Duration.ofMillis(1L << (strength - 4)).toNanos());
+
+    @Test
+    void calibrate_picksStrongestStrengthWithinTarget() {
+        assertEquals(9, calibrator.calibrate(Duration.ofMillis(50), 4, 14));
+    }
+
+    @Test
+    void calibrate_respectsMinimumStrengthOnSlowHardware() {
+        assertEquals(10, calibrator.calibrate(Duration.ofMillis(1), 10, 14));
+    }
+
+    @Test
+    void calibrate_respectsMaximumStrength() {
+        assertEquals(12, calibrator.calibrate(Duration.ofSeconds(60), 10, 12));
+    }
+
+    @Test
+    void calibrate_rejectsInvalidBounds() {
+        assertThrows(IllegalArgumentException.class,
+                () -> calibrator.calibrate(Duration.ofMillis(50), 12, 10));
+    }
+}
@@ -0,0 +1,153 @@
+package com.innowise.authservice.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.innowise.authservice.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    void encodeAndMatches_delegateOnHashingThreads() {
+        encoder = new BoundedPasswordEncoder(new ThreadNamePasswordEncoder(), 1, 1,
+                Duration.ofSeconds(5), Duration.ofSeconds(1), meterRegistry);
+
+        String encoded = encoder.encode("password");
+
+        assertTrue(encoded.startsWith("password-hashing-"));
+        assertTrue(encoder.matches("password", encoded));
+        assertEquals(2, meterRegistry.get("auth.password.hashing.wait").timer().count());
+    }
+
+    @Test
+    void encode_whenQueueIsFull_rejectsWithRetryAfter() throws Exception {
+        encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1,
+                Duration.ofSeconds(5), Duration.ofSeconds(2), meterRegistry);
+        CompletableFuture.runAsync(() -> encoder.encode("running"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture.runAsync(() -> encoder.encode("queued"));
+        waitForQueueDepth(1);
+
+        PasswordHashingUnavailableException ex = assertThrows(
+                PasswordHashingUnavailableException.class, () -> encoder.encode("rejected"));
+
+        assertEquals(Duration.ofSeconds(2), ex.getRetryAfter());
+        assertEquals(1.0, meterRegistry.get("auth.password.hashing.rejected").counter().count());
+    }
+
+    @Test
+    void encode_whenHashingExceedsTimeout_cancelsAndRejectsWithRetryAfter() throws Exception {
+        encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1,
+                Duration.ofMillis(100), Duration.ofSeconds(2), meterRegistry);
+
+        PasswordHashingUnavailableException ex = assertThrows(
+                PasswordHashingUnavailableException.class, () -> encoder.encode("slow"));
+
+        assertEquals(Duration.ofSeconds(2), ex.getRetryAfter());
+        assertEquals(1.0, meterRegistry.get("auth.password.hashing.timed-out").counter().count());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.hashing.active").gauge().value() > 0) {
+            assertTrue(System.nanoTime() < deadline, "Timed out hash was not cancelled");
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void encodeAsync_runsOnHashingThreadsAndFailsFastWhenFull() throws Exception {
+        encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1,
+                Duration.ofSeconds(5), Duration.ofSeconds(2), meterRegistry);
+        CompletableFuture<String> running = encoder.encodeAsync("running");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        encoder.encodeAsync("queued");
+        waitForQueueDepth(1);
+
+        CompletableFuture<String> rejected = encoder.encodeAsync("rejected");
+
+        assertTrue(rejected.isCompletedExceptionally());
+        assertEquals(1.0, meterRegistry.get("auth.password.hashing.rejected").counter().count());
+        release.countDown();
+        assertEquals("running", running.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void matchesAsync_completesOnHashingThreadsAndFailsFastWhenFull() throws Exception {
+        encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1,
+                Duration.ofSeconds(5), Duration.ofSeconds(2), meterRegistry);
+        encoder.encodeAsync("running");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = encoder.matchesAsync("password", "encoded");
+        waitForQueueDepth(1);
+
+        CompletableFuture<Boolean> rejected = encoder.matchesAsync("password", "encoded");
+
+        ExecutionException ex = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(PasswordHashingUnavailableException.class, ex.getCause());
+        release.countDown();
+        assertFalse(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    private void waitForQueueDepth(double depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.hashing.queue.depth").gauge().value() < depth) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Queue did not fill up");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static class ThreadNamePasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return Thread.currentThread().getName();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return Thread.currentThread().getName().equals(encodedPassword);
+        }
+    }
+
+    private class BlockingPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.innowise.authservice.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PasswordEncoderConfigTest {
+
+    private PasswordEncoderConfig config;
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        config = new PasswordEncoderConfig();
+        ReflectionTestUtils.setField(config, "encodingId", "bcrypt");
+        ReflectionTestUtils.setField(config, "strength", 5);
+        ReflectionTestUtils.setField(config, "hashingThreads", 1);
+        ReflectionTestUtils.setField(config, "queueCapacity", 4);
+        ReflectionTestUtils.setField(config, "timeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(config, "retryAfter", Duration.ofSeconds(1));
+        passwordEncoder = config.passwordEncoder(new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((BoundedPasswordEncoder) passwordEncoder).destroy();
+    }
+
+    @Test
+    void passwordEncoder_writesPrefixedHashes() {
+        String encoded = passwordEncoder.encode("password");
+
+        assertTrue(encoded.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(passwordEncoder.matches("password", encoded));
+        assertFalse(passwordEncoder.upgradeEncoding(encoded));
+    }
+
+    @Test
+    void passwordEncoder_acceptsLegacyHashesAndFlagsThemForUpgrade() {
+        String legacy = new BCryptPasswordEncoder(4).encode("password");
+
+        assertTrue(passwordEncoder.matches("password", legacy));
+        assertTrue(passwordEncoder.upgradeEncoding(legacy));
+    }
+
+    @Test
+    void passwordEncoder_flagsHashesWithDifferentCostForUpgrade() {
+        String stronger = "{bcrypt}" + new BCryptPasswordEncoder(6).encode("password");
+
+        assertTrue(passwordEncoder.matches("password", stronger));
+        assertTrue(passwordEncoder.upgradeEncoding(stronger));
+    }
+}
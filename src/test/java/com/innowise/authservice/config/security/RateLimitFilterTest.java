@@ -0,0 +1,112 @@
+package com.innowise.authservice.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+class RateLimitFilterTest {
+
+    private static final String LOGIN_PATH = "/api/v1/auth/login";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("auth.rate-limit.endpoints.login.path", LOGIN_PATH)
+                .withProperty("auth.rate-limit.endpoints.login.per-ip.capacity", "3")
+                .withProperty("auth.rate-limit.endpoints.login.per-ip.period", "1m")
+                .withProperty("auth.rate-limit.endpoints.login.per-username.capacity", "1")
+                .withProperty("auth.rate-limit.endpoints.login.per-username.period", "1m");
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(environment, meterRegistry, JsonMapper.builder().build());
+    }
+
+    @Test
+    void doFilter_whenUsernameOverLimit_rejectsWithRetryAfter() throws Exception {
+        MockHttpServletResponse first = login("10.0.0.1", "user");
+        MockHttpServletResponse second = login("10.0.0.2", "user");
+
+        assertEquals(HttpStatus.OK.value(), first.getStatus());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), second.getStatus());
+        assertEquals("60", second.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1.0, meterRegistry.get("auth.rate-limit.rejected")
+                .tag("endpoint", "login").tag("key", "username").counter().count());
+    }
+
+    @Test
+    void doFilter_whenIpOverLimit_rejectsBeforeReadingBody() throws Exception {
+        login("10.0.0.1", "first");
+        login("10.0.0.1", "second");
+        login("10.0.0.1", "third");
+
+        MockHttpServletResponse response = login("10.0.0.1", "fourth");
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals(1.0, meterRegistry.get("auth.rate-limit.rejected")
+                .tag("endpoint", "login").tag("key", "ip").counter().count());
+    }
+
+    @Test
+    void doFilter_replaysBodyToDownstreamFilters() throws Exception {
+        MockHttpServletRequest request = request(LOGIN_PATH, "10.0.0.1", "user");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals("{\"username\":\"user\",\"password\":\"password\"}",
+                new String(chain.getRequest().getInputStream().readAllBytes(),
+                        StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void doFilter_skipsUnlimitedPaths() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request("/api/v1/auth/validate", "10.0.0.1", "user"),
+                    new MockHttpServletResponse(), chain);
+            assertNotNull(chain.getRequest());
+        }
+    }
+
+    @Test
+    void doFilter_whenBodyIsNotJson_limitsByIpOnly() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = request(LOGIN_PATH, "10.0.0." + i, "user");
+            request.setContent("not-json".getBytes(StandardCharsets.UTF_8));
+            MockFilterChain chain = new MockFilterChain();
+
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            assertNotNull(chain.getRequest());
+        }
+    }
+
+    private MockHttpServletResponse login(String ip, String username) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(LOGIN_PATH, ip, username), response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest request(String path, String ip, String username) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(("{\"username\":\"" + username + "\",\"password\":\"password\"}")
+                .getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -1,7 +1,9 @@
 package com.innowise.authservice.controller;
 
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -10,15 +12,23 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.innowise.authservice.exception.AuthUserNotFoundException;
 import com.innowise.authservice.exception.GlobalExceptionHandler;
+import com.innowise.authservice.exception.TokenValidationFailedException;
+import com.innowise.authservice.model.dto.response.CredentialsFilterResponse;
+import com.innowise.authservice.model.dto.response.OutboxRedriveResponse;
 import com.innowise.authservice.model.dto.response.PromoteUserResponse;
+import com.innowise.authservice.model.dto.response.RevokeTokenResponse;
+import com.innowise.authservice.model.dto.response.SigningKeysResponse;
 import com.innowise.authservice.model.entity.type.Role;
+import com.innowise.authservice.model.entity.type.TokenType;
 import com.innowise.authservice.service.AdminService;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -67,4 +77,80 @@ class AdminControllerTest {
     mockMvc.perform(post("/api/v1/admin/users/" + userId + "/promote"))
         .andExpect(status().isNotFound());
   }
+
+  @Test
+  void reloadSigningKeys_returnsActiveKeys() throws Exception {
+    SigningKeysResponse response = SigningKeysResponse.builder()
+        .signingKeyId("rotated")
+        .verificationKeyIds(Set.of("rotated"))
+        .build();
+    when(adminService.reloadSigningKeys()).thenReturn(response);
+
+    mockMvc.perform(post("/api/v1/admin/keys/reload"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.signingKeyId", is("rotated")))
+        .andExpect(jsonPath("$.verificationKeyIds[0]", is("rotated")));
+  }
+
+  @Test
+  void revokeToken_returnsRevokedTokenDetails() throws Exception {
+    RevokeTokenResponse response = RevokeTokenResponse.builder()
+        .username("user")
+        .tokenType(TokenType.ACCESS)
+        .build();
+    when(adminService.revokeToken("token")).thenReturn(response);
+
+    mockMvc.perform(post("/api/v1/admin/tokens/revoke")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"token\":\"token\"}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.username", is("user")))
+        .andExpect(jsonPath("$.tokenType", is("ACCESS")));
+  }
+
+  @Test
+  void revokeToken_whenTokenInvalid_returnsBadRequest() throws Exception {
+    doThrow(new TokenValidationFailedException("Token is invalid or already expired"))
+        .when(adminService).revokeToken("token");
+
+    mockMvc.perform(post("/api/v1/admin/tokens/revoke")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"token\":\"token\"}"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void revokeToken_whenTokenMissing_returnsBadRequest() throws Exception {
+    mockMvc.perform(post("/api/v1/admin/tokens/revoke")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{}"))
+        .andExpect(status().isBadRequest());
+
+    verify(adminService, never()).revokeToken(any());
+  }
+
+  @Test
+  void rebuildCredentialsFilter_returnsFilterStats() throws Exception {
+    when(adminService.rebuildCredentialsFilter()).thenReturn(CredentialsFilterResponse.builder()
+        .users(2)
+        .bitSize(9600)
+        .hashFunctions(7)
+        .expectedFalsePositiveRate(0.001)
+        .build());
+
+    mockMvc.perform(post("/api/v1/admin/credentials-filter/rebuild"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.users", is(2)))
+        .andExpect(jsonPath("$.hashFunctions", is(7)));
+  }
+
+  @Test
+  void redriveFailedOutboxEvents_returnsRequeuedCount() throws Exception {
+    when(adminService.redriveFailedOutboxEvents())
+        .thenReturn(OutboxRedriveResponse.builder().redriven(3).build());
+
+    mockMvc.perform(post("/api/v1/admin/outbox/redrive"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.redriven", is(3)));
+  }
 }
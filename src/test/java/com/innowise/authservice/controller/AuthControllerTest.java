@@ -5,27 +5,38 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.innowise.authservice.exception.GlobalExceptionHandler;
+import com.innowise.authservice.exception.PasswordHashingUnavailableException;
+import com.innowise.authservice.model.dto.request.AvailabilityRequest;
+import com.innowise.authservice.model.dto.request.BatchValidateTokenRequest;
 import com.innowise.authservice.model.dto.request.LoginRequest;
 import com.innowise.authservice.model.dto.request.RefreshTokenRequest;
 import com.innowise.authservice.model.dto.request.RegisterRequest;
 import com.innowise.authservice.model.dto.request.ValidateTokenRequest;
+import com.innowise.authservice.model.dto.response.AvailabilityResponse;
+import com.innowise.authservice.model.dto.response.BatchValidateTokenResponse;
 import com.innowise.authservice.model.dto.response.RegisterResponse;
 import com.innowise.authservice.model.dto.response.TokenResponse;
+import com.innowise.authservice.model.dto.response.TokenValidationResult;
 import com.innowise.authservice.model.dto.response.ValidateTokenResponse;
 import com.innowise.authservice.model.entity.type.Role;
 import com.innowise.authservice.service.AuthService;
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -188,4 +199,86 @@ class AuthControllerTest {
 
         verify(authService, never()).validateToken(any(ValidateTokenRequest.class));
     }
+
+  @Test
+  void validateBatch_returnsPerTokenResults() throws Exception {
+    BatchValidateTokenRequest request = BatchValidateTokenRequest.builder()
+        .tokens(List.of("access", "bad"))
+        .build();
+    BatchValidateTokenResponse response = BatchValidateTokenResponse.builder()
+        .results(List.of(
+            TokenValidationResult.builder()
+                .valid(true)
+                .validation(ValidateTokenResponse.builder().valid(true).username("user").build())
+                .build(),
+            TokenValidationResult.builder()
+                .valid(false)
+                .reason("Access token is invalid")
+                .build()))
+        .build();
+    when(authService.validateTokens(any(BatchValidateTokenRequest.class))).thenReturn(response);
+
+    mockMvc.perform(post("/api/v1/auth/validate/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.results[0].valid", is(true)))
+        .andExpect(jsonPath("$.results[0].validation.username", is("user")))
+        .andExpect(jsonPath("$.results[1].valid", is(false)))
+        .andExpect(jsonPath("$.results[1].reason", is("Access token is invalid")));
+  }
+
+    @Test
+    void validateBatch_withEmptyTokens_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/validate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tokens\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(authService, never()).validateTokens(any(BatchValidateTokenRequest.class));
+    }
+
+  @Test
+  void login_whenPasswordHashingIsSaturated_returnsServiceUnavailable() throws Exception {
+    LoginRequest request = LoginRequest.builder()
+        .username("user")
+        .password("password123")
+        .build();
+    when(authService.createTokens(any(LoginRequest.class)))
+        .thenThrow(new PasswordHashingUnavailableException(Duration.ofSeconds(2)));
+
+    mockMvc.perform(post("/api/v1/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+  }
+
+  @Test
+  void availability_returnsAvailabilityOfRequestedValues() throws Exception {
+    when(authService.checkAvailability(any(AvailabilityRequest.class)))
+        .thenReturn(AvailabilityResponse.builder()
+            .username("user")
+            .usernameAvailable(false)
+            .email("user@example.com")
+            .emailAvailable(true)
+            .build());
+
+    mockMvc.perform(get("/api/v1/auth/availability")
+            .param("username", "user")
+            .param("email", "user@example.com"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.usernameAvailable", is(false)))
+        .andExpect(jsonPath("$.emailAvailable", is(true)));
+  }
+
+  @Test
+  void availability_withoutCriteria_returnsBadRequest() throws Exception {
+    mockMvc.perform(get("/api/v1/auth/availability"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(get("/api/v1/auth/availability").param("email", "not-an-email"))
+        .andExpect(status().isBadRequest());
+
+    verify(authService, never()).checkAvailability(any(AvailabilityRequest.class));
+  }
 }
@@ -0,0 +1,68 @@
+package com.innowise.authservice.controller;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.innowise.authservice.exception.GlobalExceptionHandler;
+import com.innowise.authservice.model.dto.response.JsonWebKey;
+import com.innowise.authservice.model.dto.response.JwksResponse;
+import com.innowise.authservice.service.JwksService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class JwksControllerTest {
+
+    private static final String ETAG = "\"etag\"";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private JwksService jwksService;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new JwksController(jwksService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+  @Test
+  void getJwks_returnsKeysWithCachingHeaders() throws Exception {
+    when(jwksService.getJwksETag()).thenReturn(ETAG);
+    when(jwksService.getJwks()).thenReturn(JwksResponse.builder()
+        .keys(List.of(JsonWebKey.builder().kty("RSA").kid("rsa-1").alg("RS256").build()))
+        .build());
+
+    mockMvc.perform(get("/.well-known/jwks.json"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+        .andExpect(jsonPath("$.keys[0].kid", is("rsa-1")))
+        .andExpect(jsonPath("$.keys[0].alg", is("RS256")));
+  }
+
+  @Test
+  void getJwks_whenETagMatches_returnsNotModified() throws Exception {
+    when(jwksService.getJwksETag()).thenReturn(ETAG);
+
+    mockMvc.perform(get("/.well-known/jwks.json").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, ETAG));
+
+    verify(jwksService, never()).getJwks();
+  }
+}
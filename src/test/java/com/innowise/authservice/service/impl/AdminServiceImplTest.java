@@ -9,12 +9,22 @@ import static org.mockito.Mockito.when;
 
 import com.innowise.authservice.exception.AuthUserNotFoundException;
 import com.innowise.authservice.mapper.AuthUserMapper;
+import com.innowise.authservice.model.dto.response.CredentialsFilterResponse;
+import com.innowise.authservice.model.dto.response.OutboxRedriveResponse;
 import com.innowise.authservice.model.dto.response.PromoteUserResponse;
+import com.innowise.authservice.model.dto.response.RevokeTokenResponse;
+import com.innowise.authservice.model.dto.response.SigningKeysResponse;
 import com.innowise.authservice.model.entity.AuthUser;
 import com.innowise.authservice.model.entity.type.Role;
 import com.innowise.authservice.repository.AuthUserRepository;
+import com.innowise.authservice.service.CredentialsFilterService;
+import com.innowise.authservice.service.OutboxService;
+import com.innowise.authservice.service.TokenRevocationService;
+import com.innowise.authservice.service.jwt.JwtKey;
+import com.innowise.authservice.service.jwt.JwtKeyring;
+import io.jsonwebtoken.SignatureAlgorithm;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,10 +39,43 @@ class AdminServiceImplTest {
     private AuthUserRepository authUserRepository;
     @Mock
     private AuthUserMapper authUserMapper;
+    @Mock
+    private JwtKeyring jwtKeyring;
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+    @Mock
+    private CredentialsFilterService credentialsFilterService;
+    @Mock
+    private OutboxService outboxService;
 
     @InjectMocks
     private AdminServiceImpl adminService;
 
+  @Test
+  void revokeToken_delegatesToRevocationService() {
+    RevokeTokenResponse expected = RevokeTokenResponse.builder().username("user").build();
+    when(tokenRevocationService.revoke("token")).thenReturn(expected);
+
+    assertSame(expected, adminService.revokeToken("token"));
+  }
+
+  @Test
+  void rebuildCredentialsFilter_delegatesToFilterService() {
+    CredentialsFilterResponse expected = CredentialsFilterResponse.builder().users(3).build();
+    when(credentialsFilterService.rebuild()).thenReturn(expected);
+
+    assertSame(expected, adminService.rebuildCredentialsFilter());
+  }
+
+  @Test
+  void redriveFailedOutboxEvents_reportsRequeuedCount() {
+    when(outboxService.redriveFailed()).thenReturn(4);
+
+    OutboxRedriveResponse response = adminService.redriveFailedOutboxEvents();
+
+    assertEquals(4, response.getRedriven());
+  }
+
   @Test
   void promoteToAdmin_whenUserNotFound_throwsException() {
     UUID userId = UUID.randomUUID();
@@ -80,7 +123,20 @@ class AdminServiceImplTest {
     PromoteUserResponse response = adminService.promoteToAdmin(userId);
 
         assertEquals(Role.ADMIN, user.getRole());
+        assertEquals(1, user.getTokenVersion());
         verify(authUserRepository).save(user);
         assertSame(expected, response);
     }
+
+  @Test
+  void reloadSigningKeys_reloadsKeyringAndReturnsActiveKeys() {
+    when(jwtKeyring.signingKey()).thenReturn(new JwtKey("rotated", SignatureAlgorithm.HS256, null, null));
+    when(jwtKeyring.verificationKeyIds()).thenReturn(Set.of("default", "rotated"));
+
+    SigningKeysResponse response = adminService.reloadSigningKeys();
+
+    verify(jwtKeyring).reload();
+    assertEquals("rotated", response.getSigningKeyId());
+    assertEquals(Set.of("default", "rotated"), response.getVerificationKeyIds());
+  }
 }
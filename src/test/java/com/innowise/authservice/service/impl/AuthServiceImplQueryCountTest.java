@@ -0,0 +1,306 @@
+package com.innowise.authservice.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.innowise.authservice.cache.CredentialsFilter;
+import com.innowise.authservice.cache.TokenRevocationCache;
+import com.innowise.authservice.cache.ValidateTokenCache;
+import com.innowise.authservice.client.UserProfileBatcher;
+import com.innowise.authservice.client.UserServiceClient;
+import com.innowise.authservice.exception.CredentialsConflictException;
+import com.innowise.authservice.exception.LoginFailedException;
+import com.innowise.authservice.exception.RefreshTokenRejectedException;
+import com.innowise.authservice.mapper.AuthUserMapper;
+import com.innowise.authservice.model.dto.request.LoginRequest;
+import com.innowise.authservice.model.dto.request.RefreshTokenRequest;
+import com.innowise.authservice.model.dto.request.RegisterRequest;
+import com.innowise.authservice.model.dto.response.TokenResponse;
+import com.innowise.authservice.model.entity.AuthUser;
+import com.innowise.authservice.model.entity.type.Role;
+import com.innowise.authservice.model.entity.type.TokenType;
+import com.innowise.authservice.model.token.VerifiedToken;
+import com.innowise.authservice.repository.AuthUserRepository;
+import com.innowise.authservice.repository.OutboxEventRepository;
+import com.innowise.authservice.repository.RefreshTokenRepository;
+import com.innowise.authservice.service.CustomUserDetailsService;
+import com.innowise.authservice.service.JwtService;
+import com.innowise.authservice.service.PasswordUpgradeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:authdb;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "jwt.refresh-expiration=60000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AuthServiceImpl.class, OutboxServiceImpl.class, RefreshTokenServiceImpl.class,
+        AuthUserMapper.class, CredentialsFilter.class, AuthServiceImplQueryCountTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuthServiceImplQueryCountTest {
+
+    @Autowired
+    private AuthServiceImpl authService;
+    @Autowired
+    private AuthUserRepository authUserRepository;
+    @MockitoSpyBean
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    private RefreshTokenServiceImpl refreshTokenService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private JwtService jwtService;
+    @MockitoBean
+    private CustomUserDetailsService customUserDetailsService;
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+    @MockitoBean
+    private UserProfileBatcher userProfileBatcher;
+    @MockitoBean
+    private ValidateTokenCache validateTokenCache;
+    @MockitoBean
+    private TokenRevocationCache tokenRevocationCache;
+    @MockitoBean
+    private PasswordUpgradeService passwordUpgradeService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        authUserRepository.deleteAll();
+        AuthUser user = new AuthUser();
+        user.setId(UUID.randomUUID());
+        user.setUsername("user");
+        user.setEmail("user@example.com");
+        user.setPassword(passwordEncoder.encode("password123"));
+        user.setRole(Role.USER);
+        authUserRepository.save(user);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        clearInvocations(passwordEncoder);
+    }
+
+    @Test
+    void createTokens_issuesLookupAndRefreshTokenInsert() {
+        when(jwtService.generateTokens(any())).thenReturn(tokens("refresh-1"));
+
+        authService.createTokens(LoginRequest.builder()
+                .username("user")
+                .password("password123")
+                .build());
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, refreshTokenRepository.count());
+    }
+
+    @Test
+    void refreshTokens_rotatesWithIndexedProbeUpdateAndInsert() {
+        login("refresh-1");
+        when(jwtService.verifyToken("refresh-1")).thenReturn(refreshClaims());
+        when(jwtService.generateTokens(any())).thenReturn(tokens("refresh-2"));
+        statistics.clear();
+
+        TokenResponse response = authService.refreshTokens(RefreshTokenRequest.builder()
+                .refreshToken("refresh-1")
+                .build());
+
+        assertEquals("refresh-2", response.getRefreshToken());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(2, refreshTokenRepository.count());
+    }
+
+    @Test
+    void refreshTokens_whenRotatedTokenReused_revokesWholeFamily() {
+        login("refresh-1");
+        when(jwtService.verifyToken(any())).thenReturn(refreshClaims());
+        when(jwtService.generateTokens(any())).thenReturn(tokens("refresh-2"));
+        authService.refreshTokens(RefreshTokenRequest.builder().refreshToken("refresh-1").build());
+
+        assertThrows(RefreshTokenRejectedException.class, () -> authService.refreshTokens(
+                RefreshTokenRequest.builder().refreshToken("refresh-1").build()));
+        assertEquals(0, refreshTokenRepository.count());
+        assertThrows(RefreshTokenRejectedException.class, () -> authService.refreshTokens(
+                RefreshTokenRequest.builder().refreshToken("refresh-2").build()));
+    }
+
+    @Test
+    void purgeExpired_deletesOnlyExpiredRowsInChunks() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID familyId = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            refreshTokenRepository.insert("expired-" + i, familyId, "user", now.minusMinutes(1),
+                    now.minusHours(1));
+        }
+        refreshTokenRepository.insert("live", familyId, "user", now.plusMinutes(1), now);
+
+        assertEquals(5, refreshTokenService.purgeExpired());
+        assertEquals(1, refreshTokenRepository.count());
+    }
+
+    @Test
+    void createTokens_withWrongPassword_issuesExactlyOneStatement() {
+        assertThrows(LoginFailedException.class, () -> authService.createTokens(LoginRequest.builder()
+                .username("user")
+                .password("wrong-password")
+                .build()));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void register_issuesConflictCheckAndInsertsUserWithOutboxEventInOneTransaction() {
+        authService.register(registerRequest("new-user", "new-user@example.com"));
+
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getTransactionCount());
+        assertEquals(2, authUserRepository.count());
+        assertEquals(1, outboxEventRepository.count());
+        verify(userServiceClient, never()).createUserProfile(any());
+    }
+
+    @Test
+    void register_withTakenUsername_issuesOneStatementAndSkipsHashing() {
+        CredentialsConflictException ex = assertThrows(CredentialsConflictException.class,
+                () -> authService.register(registerRequest("user", "other@example.com")));
+
+        assertEquals("Credentials already exist for username: user", ex.getMessage());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        verify(passwordEncoder, never()).encode(any());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void register_withTakenEmail_reportsEmailConflict() {
+        CredentialsConflictException ex = assertThrows(CredentialsConflictException.class,
+                () -> authService.register(registerRequest("other", "user@example.com")));
+
+        assertEquals("Credentials already exist for email: user@example.com", ex.getMessage());
+    }
+
+    @Test
+    void insertIfAbsent_whenUsernameTaken_insertsNothing() {
+        int inserted = authUserRepository.insertIfAbsent(UUID.randomUUID(), "user",
+                "another@example.com", "hash", Role.USER.name());
+
+        assertEquals(0, inserted);
+        assertEquals(1, authUserRepository.count());
+    }
+
+    @Test
+    void databaseTime_readsDatabaseClock() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(1);
+
+        assertTrue(authUserRepository.databaseTime().isAfter(before));
+    }
+
+    @Test
+    void tokenVersionBump_restampsUpdatedAtFromDatabaseAndIsSynced() {
+        AuthUser user = authUserRepository.findByUsername("user").orElseThrow();
+        LocalDateTime createdStamp = user.getUpdatedAt();
+        user.setEnabled(false);
+        authUserRepository.saveAndFlush(user);
+
+        AuthUser reloaded = authUserRepository.findByUsername("user").orElseThrow();
+        assertEquals(1, reloaded.getTokenVersion());
+        assertTrue(!reloaded.getUpdatedAt().isBefore(createdStamp));
+        assertEquals(1, authUserRepository.findTokenVersionsChangedAfter(
+                createdStamp.minusSeconds(1), new UUID(0, 0), PageRequest.of(0, 10)).size());
+    }
+
+    private void login(String refreshToken) {
+        when(customUserDetailsService.loadUserByUsername("user"))
+                .thenReturn(new User("user", "password", List.of()));
+        when(jwtService.generateTokens(any())).thenReturn(tokens(refreshToken));
+        authService.createTokens(LoginRequest.builder()
+                .username("user")
+                .password("password123")
+                .build());
+    }
+
+    private TokenResponse tokens(String refreshToken) {
+        return TokenResponse.builder()
+                .accessToken("access")
+                .refreshToken(refreshToken)
+                .build();
+    }
+
+    private VerifiedToken refreshClaims() {
+        return VerifiedToken.builder()
+                .subject("user")
+                .tokenType(TokenType.REFRESH)
+                .build();
+    }
+
+    private RegisterRequest registerRequest(String username, String email) {
+        return RegisterRequest.builder()
+                .username(username)
+                .name("Name")
+                .surname("Surname")
+                .email(email)
+                .password("password123")
+                .build();
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+
+        @Bean
+        JsonMapper jsonMapper() {
+            return JsonMapper.builder().build();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -1,49 +1,76 @@
 package com.innowise.authservice.service.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.innowise.authservice.client.UserServiceClient;
+import com.innowise.authservice.cache.CredentialsFilter;
+import com.innowise.authservice.cache.TokenRevocationCache;
+import com.innowise.authservice.cache.ValidateTokenCache;
 import com.innowise.authservice.config.security.AuthUserDetails;
+import com.innowise.authservice.config.security.ValidationMode;
 import com.innowise.authservice.exception.AccessTokenRejectedException;
 import com.innowise.authservice.exception.AuthUserNotFoundException;
 import com.innowise.authservice.exception.LoginFailedException;
 import com.innowise.authservice.exception.RefreshTokenRejectedException;
 import com.innowise.authservice.exception.CredentialsConflictException;
+import com.innowise.authservice.exception.TokenValidationFailedException;
 import com.innowise.authservice.mapper.AuthUserMapper;
+import com.innowise.authservice.model.dto.request.AvailabilityRequest;
+import com.innowise.authservice.model.dto.request.BatchValidateTokenRequest;
 import com.innowise.authservice.model.dto.request.CreateUserProfileRequest;
 import com.innowise.authservice.model.dto.request.LoginRequest;
 import com.innowise.authservice.model.dto.request.RefreshTokenRequest;
 import com.innowise.authservice.model.dto.request.RegisterRequest;
 import com.innowise.authservice.model.dto.request.ValidateTokenRequest;
+import com.innowise.authservice.model.dto.response.AvailabilityResponse;
+import com.innowise.authservice.model.dto.response.BatchValidateTokenResponse;
 import com.innowise.authservice.model.dto.response.TokenResponse;
 import com.innowise.authservice.model.dto.response.ValidateTokenResponse;
 import com.innowise.authservice.model.dto.response.RegisterResponse;
 import com.innowise.authservice.model.entity.AuthUser;
+import com.innowise.authservice.model.entity.type.AccountStatus;
 import com.innowise.authservice.model.entity.type.Role;
 import com.innowise.authservice.model.entity.type.TokenType;
+import com.innowise.authservice.model.projection.UserCredentials;
+import com.innowise.authservice.model.token.VerifiedToken;
 import com.innowise.authservice.repository.AuthUserRepository;
 import com.innowise.authservice.service.CustomUserDetailsService;
 import com.innowise.authservice.service.JwtService;
+import com.innowise.authservice.service.OutboxService;
+import com.innowise.authservice.service.PasswordUpgradeService;
+import com.innowise.authservice.service.RefreshTokenService;
+import com.innowise.authservice.util.BloomFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.jsonwebtoken.JwtException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceImplTest {
@@ -51,8 +78,6 @@ class AuthServiceImplTest {
   @Mock
   private AuthUserRepository authUserRepository;
   @Mock
-  private AuthenticationManager authenticationManager;
-  @Mock
   private JwtService jwtService;
   @Mock
   private PasswordEncoder passwordEncoder;
@@ -61,9 +86,19 @@ class AuthServiceImplTest {
   @Mock
   private AuthUserMapper authUserMapper;
   @Mock
-  private Authentication authentication;
+  private OutboxService outboxService;
+  @Mock
+  private TransactionTemplate transactionTemplate;
+  @Mock
+  private ValidateTokenCache validateTokenCache;
+  @Mock
+  private PasswordUpgradeService passwordUpgradeService;
+  @Mock
+  private RefreshTokenService refreshTokenService;
   @Mock
-  private UserServiceClient userServiceClient;
+  private TokenRevocationCache tokenRevocationCache;
+  @Spy
+  private CredentialsFilter credentialsFilter = new CredentialsFilter(new SimpleMeterRegistry());
 
     @InjectMocks
     private com.innowise.authservice.service.impl.AuthServiceImpl authService;
@@ -77,9 +112,14 @@ class AuthServiceImplTest {
         .email("user@example.com")
         .password("password123")
         .build();
-    when(authUserRepository.existsByUsername("user")).thenReturn(true);
+    when(authUserRepository.findUsernamesByUsernameOrEmail("user", "user@example.com"))
+        .thenReturn(List.of("user"));
 
-    assertThrows(CredentialsConflictException.class, () -> authService.register(request));
+    CredentialsConflictException ex = assertThrows(CredentialsConflictException.class,
+        () -> authService.register(request));
+
+    assertTrue(ex.getMessage().contains("username"));
+    verify(passwordEncoder, never()).encode(any());
   }
 
   @Test
@@ -91,10 +131,42 @@ class AuthServiceImplTest {
         .email("user@example.com")
         .password("password123")
         .build();
-    when(authUserRepository.existsByUsername("user")).thenReturn(false);
-    when(authUserRepository.existsByEmail("user@example.com")).thenReturn(true);
+    when(authUserRepository.findUsernamesByUsernameOrEmail("user", "user@example.com"))
+        .thenReturn(List.of("other"));
+
+    CredentialsConflictException ex = assertThrows(CredentialsConflictException.class,
+        () -> authService.register(request));
+
+    assertTrue(ex.getMessage().contains("email"));
+    verify(passwordEncoder, never()).encode(any());
+  }
+
+  @Test
+  void register_whenInsertLosesRace_throwsConflict() {
+    RegisterRequest request = RegisterRequest.builder()
+        .username("user")
+        .name("Name")
+        .surname("Surname")
+        .email("user@example.com")
+        .password("password123")
+        .build();
+    AuthUser mappedUser = new AuthUser();
+    mappedUser.setUsername("user");
+    mappedUser.setEmail("user@example.com");
+    mappedUser.setPassword("encoded");
+    mappedUser.setRole(Role.USER);
+    when(authUserRepository.findUsernamesByUsernameOrEmail("user", "user@example.com"))
+        .thenReturn(List.of(), List.of("user"));
+    when(passwordEncoder.encode("password123")).thenReturn("encoded");
+    when(authUserMapper.toEntity(request, "encoded")).thenReturn(mappedUser);
+    when(authUserMapper.toCreateUserProfileRequest(request))
+        .thenReturn(CreateUserProfileRequest.builder().build());
+    runTransactionsInline();
+    when(authUserRepository.insertIfAbsent(any(), eq("user"), eq("user@example.com"),
+        eq("encoded"), eq("USER"))).thenReturn(0);
 
     assertThrows(CredentialsConflictException.class, () -> authService.register(request));
+    verify(outboxService, never()).enqueueUserProfileCreation(any());
   }
 
   @Test
@@ -117,12 +189,6 @@ class AuthServiceImplTest {
     mappedUser.setEmail("user@example.com");
     mappedUser.setPassword("encoded");
     mappedUser.setRole(Role.USER);
-    AuthUser savedUser = new AuthUser();
-    savedUser.setId(userId);
-    savedUser.setUsername("user");
-    savedUser.setEmail("user@example.com");
-    savedUser.setPassword("encoded");
-    savedUser.setRole(Role.USER);
     RegisterResponse expected = RegisterResponse.builder()
         .userId(userId)
         .username("user")
@@ -132,28 +198,49 @@ class AuthServiceImplTest {
     when(passwordEncoder.encode("password123")).thenReturn("encoded");
     when(authUserMapper.toEntity(request, "encoded")).thenReturn(mappedUser);
     when(authUserMapper.toCreateUserProfileRequest(request)).thenReturn(createUserProfileRequest);
-    when(authUserRepository.save(mappedUser)).thenReturn(savedUser);
-    when(authUserMapper.toRegisterResponse(savedUser)).thenReturn(expected);
+    runTransactionsInline();
+    when(authUserRepository.insertIfAbsent(any(), eq("user"), eq("user@example.com"),
+        eq("encoded"), eq("USER"))).thenReturn(1);
+    when(authUserMapper.toRegisterResponse(mappedUser)).thenReturn(expected);
 
     RegisterResponse response = authService.register(request);
 
     verify(authUserMapper).toEntity(request, "encoded");
-    verify(authUserRepository).save(mappedUser);
-    verify(userServiceClient).createUserProfile(any(CreateUserProfileRequest.class));
-    verify(authUserMapper).toRegisterResponse(savedUser);
+    verify(outboxService).enqueueUserProfileCreation(createUserProfileRequest);
+    verify(transactionTemplate).execute(any());
+    assertEquals(mappedUser.getId(), createUserProfileRequest.getId());
     assertSame(expected, response);
   }
 
+  @SuppressWarnings("unchecked")
+  private void runTransactionsInline() {
+    when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+        invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+  }
+
     @Test
-    void createTokens_whenUserNotFound_throwsLoginFailed() {
+    void createTokens_whenUserNotFound_throwsNotFound() {
         LoginRequest request = LoginRequest.builder()
                 .username("user")
                 .password("password123")
                 .build();
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenThrow(new AuthUserNotFoundException("username: user"));
+        when(authUserRepository.findByUsername("user")).thenReturn(Optional.empty());
+
+        assertThrows(AuthUserNotFoundException.class, () -> authService.createTokens(request));
+    }
+
+    @Test
+    void createTokens_whenFilterHasNotSeenUsername_stillQueriesUser() {
+        credentialsFilter.replace(new BloomFilter(100, 0.01));
+        LoginRequest request = LoginRequest.builder()
+                .username("user")
+                .password("password123")
+                .build();
+        when(authUserRepository.findByUsername("user")).thenReturn(Optional.of(loginUser()));
+        when(passwordEncoder.matches("password123", "$2a$10$hash")).thenReturn(false);
 
         assertThrows(LoginFailedException.class, () -> authService.createTokens(request));
+        verify(authUserRepository).findByUsername("user");
     }
 
     @Test
@@ -162,29 +249,56 @@ class AuthServiceImplTest {
                 .username("user")
                 .password("password123")
                 .build();
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenThrow(new BadCredentialsException("bad credentials"));
+        when(authUserRepository.findByUsername("user")).thenReturn(Optional.of(loginUser()));
+        when(passwordEncoder.matches("password123", "$2a$10$hash")).thenReturn(false);
 
         assertThrows(LoginFailedException.class, () -> authService.createTokens(request));
+        verify(jwtService, never()).generateTokens(any());
     }
 
     @Test
-    void createTokens_whenAuthenticated_returnsTokens() {
+    void createTokens_whenAccountLocked_throwsLoginFailedWithoutHashing() {
         LoginRequest request = LoginRequest.builder()
                 .username("user")
                 .password("password123")
                 .build();
-        UserDetails userDetails = new User("user", "pass", new java.util.ArrayList<>());
+        AuthUser user = loginUser();
+        user.setAccountsNotLocked(false);
+        when(authUserRepository.findByUsername("user")).thenReturn(Optional.of(user));
+
+        assertThrows(LoginFailedException.class, () -> authService.createTokens(request));
+        verify(passwordEncoder, never()).matches(any(), any());
+    }
+
+    @Test
+    void createTokens_whenAuthenticated_returnsTokensAndSchedulesPasswordUpgrade() {
+        LoginRequest request = LoginRequest.builder()
+                .username("user")
+                .password("password123")
+                .build();
+        AuthUser user = loginUser();
         TokenResponse expected = TokenResponse.builder().accessToken("access").refreshToken("refresh")
                 .tokenType("Bearer").build();
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
-        when(customUserDetailsService.loadUserByUsername("user")).thenReturn(userDetails);
-        when(jwtService.generateTokens(userDetails)).thenReturn(expected);
+        when(authUserRepository.findByUsername("user")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("password123", "$2a$10$hash")).thenReturn(true);
+        when(jwtService.generateTokens(any(AuthUserDetails.class))).thenReturn(expected);
 
         TokenResponse response = authService.createTokens(request);
 
         assertSame(expected, response);
+        verify(authUserRepository, times(1)).findByUsername("user");
+        verify(passwordUpgradeService).upgradeIfNeeded(any(AuthUserDetails.class), eq("password123"));
+        verify(refreshTokenService).register(eq("refresh"), eq("user"), any(UUID.class));
+    }
+
+    private AuthUser loginUser() {
+        AuthUser user = new AuthUser();
+        user.setId(UUID.randomUUID());
+        user.setUsername("user");
+        user.setEmail("user@example.com");
+        user.setPassword("$2a$10$hash");
+        user.setRole(Role.USER);
+        return user;
     }
 
     @Test
@@ -192,7 +306,7 @@ class AuthServiceImplTest {
         RefreshTokenRequest request = RefreshTokenRequest.builder()
                 .refreshToken("bad-token")
                 .build();
-        doThrow(new JwtException("invalid token")).when(jwtService).validateToken("bad-token");
+        when(jwtService.verifyToken("bad-token")).thenThrow(new JwtException("invalid token"));
 
         assertThrows(RefreshTokenRejectedException.class, () -> authService.refreshTokens(request));
     }
@@ -203,16 +317,78 @@ class AuthServiceImplTest {
                 .refreshToken("refresh-token")
                 .build();
         UserDetails userDetails = new User("user", "pass", new java.util.ArrayList<>());
-        TokenResponse expected = TokenResponse.builder().accessToken("access").refreshToken("refresh-token")
-                .tokenType("Bearer").build();
-        when(jwtService.extractTokenType("refresh-token")).thenReturn(TokenType.REFRESH);
-        when(jwtService.extractUsername("refresh-token")).thenReturn("user");
+        TokenResponse expected = TokenResponse.builder().accessToken("access")
+                .refreshToken("rotated-refresh-token").tokenType("Bearer").build();
+        UUID familyId = UUID.randomUUID();
+        when(jwtService.verifyToken("refresh-token")).thenReturn(VerifiedToken.builder()
+                .subject("user")
+                .tokenType(TokenType.REFRESH)
+                .build());
+        when(refreshTokenService.consume(eq("refresh-token"), any())).thenReturn(familyId);
+        runTransactionsInline();
         when(customUserDetailsService.loadUserByUsername("user")).thenReturn(userDetails);
-        when(jwtService.refreshTokens("refresh-token", userDetails)).thenReturn(expected);
+        when(jwtService.generateTokens(userDetails)).thenReturn(expected);
 
         TokenResponse response = authService.refreshTokens(request);
 
         assertSame(expected, response);
+        verify(refreshTokenService).register("rotated-refresh-token", "user", familyId);
+    }
+
+    @Test
+    void refreshTokens_whenTokenReused_throwsRejectedWithoutIssuing() {
+        RefreshTokenRequest request = RefreshTokenRequest.builder()
+                .refreshToken("refresh-token")
+                .build();
+        when(jwtService.verifyToken("refresh-token")).thenReturn(VerifiedToken.builder()
+                .subject("user")
+                .tokenType(TokenType.REFRESH)
+                .build());
+        when(refreshTokenService.consume(eq("refresh-token"), any()))
+                .thenThrow(new RefreshTokenRejectedException());
+        runTransactionsInline();
+
+        assertThrows(RefreshTokenRejectedException.class, () -> authService.refreshTokens(request));
+        verify(jwtService, never()).generateTokens(any());
+    }
+
+    @Test
+    void refreshTokens_whenAccessTokenUsed_throwsRejected() {
+        RefreshTokenRequest request = RefreshTokenRequest.builder()
+                .refreshToken("access-token")
+                .build();
+        when(jwtService.verifyToken("access-token")).thenReturn(VerifiedToken.builder()
+                .subject("user")
+                .tokenType(TokenType.ACCESS)
+                .build());
+
+        assertThrows(RefreshTokenRejectedException.class, () -> authService.refreshTokens(request));
+    }
+
+    @Test
+    void validateToken_whenRevoked_throwsRejectedBeforeCacheLookup() {
+        ValidateTokenRequest request = ValidateTokenRequest.builder()
+                .token("revoked-token")
+                .build();
+        when(tokenRevocationCache.isRevoked("revoked-token")).thenReturn(true);
+
+        AccessTokenRejectedException ex = assertThrows(AccessTokenRejectedException.class,
+                () -> authService.validateToken(request));
+
+        assertEquals("Access token is revoked", ex.getMessage());
+        verify(validateTokenCache, never()).get(any());
+        verify(jwtService, never()).verifyToken(any());
+    }
+
+    @Test
+    void refreshTokens_whenRevoked_throwsRejected() {
+        RefreshTokenRequest request = RefreshTokenRequest.builder()
+                .refreshToken("revoked-token")
+                .build();
+        when(tokenRevocationCache.isRevoked("revoked-token")).thenReturn(true);
+
+        assertThrows(RefreshTokenRejectedException.class, () -> authService.refreshTokens(request));
+        verify(refreshTokenService, never()).consume(any(), any());
     }
 
     @Test
@@ -220,7 +396,7 @@ class AuthServiceImplTest {
         ValidateTokenRequest request = ValidateTokenRequest.builder()
                 .token("bad-token")
                 .build();
-        doThrow(new JwtException("invalid token")).when(jwtService).validateToken("bad-token");
+        when(jwtService.verifyToken("bad-token")).thenThrow(new JwtException("invalid token"));
 
         assertThrows(AccessTokenRejectedException.class, () -> authService.validateToken(request));
     }
@@ -244,13 +420,174 @@ class AuthServiceImplTest {
         .email("user@example.com")
         .role(Role.ADMIN)
         .build();
-    when(jwtService.extractUsername("token")).thenReturn("user");
+    Instant expiresAt = Instant.now().plusSeconds(60);
+    when(jwtService.verifyToken("token")).thenReturn(VerifiedToken.builder()
+        .subject("user")
+        .tokenType(TokenType.ACCESS)
+        .expiresAt(expiresAt)
+        .build());
     when(customUserDetailsService.loadUserByUsername("user")).thenReturn(userDetails);
     when(authUserMapper.toValidateTokenResponse(userDetails)).thenReturn(expected);
 
         ValidateTokenResponse response = authService.validateToken(request);
 
         verify(authUserMapper).toValidateTokenResponse(userDetails);
+        verify(validateTokenCache).put("token", expected, expiresAt, 0L);
         assertSame(expected, response);
     }
+
+  @Test
+  void validateToken_whenCached_skipsVerificationAndLookup() {
+    ValidateTokenRequest request = ValidateTokenRequest.builder()
+        .token("token")
+        .build();
+    ValidateTokenResponse cached = ValidateTokenResponse.builder()
+        .valid(true)
+        .username("user")
+        .build();
+    when(validateTokenCache.get("token")).thenReturn(cached);
+
+    ValidateTokenResponse response = authService.validateToken(request);
+
+    assertSame(cached, response);
+    verify(jwtService, never()).verifyToken("token");
+    verify(customUserDetailsService, never()).loadUserByUsername("user");
+  }
+
+  @Test
+  void validateToken_whenStateless_answersFromClaimsWithoutLookup() {
+    ReflectionTestUtils.setField(authService, "validationMode", ValidationMode.STATELESS);
+    ValidateTokenRequest request = ValidateTokenRequest.builder()
+        .token("token")
+        .build();
+    VerifiedToken verifiedToken = VerifiedToken.builder()
+        .subject("user")
+        .userId(UUID.randomUUID())
+        .email("user@example.com")
+        .role(Role.USER)
+        .accountStatus(AccountStatus.ACTIVE)
+        .tokenType(TokenType.ACCESS)
+        .expiresAt(Instant.now().plusSeconds(60))
+        .build();
+    ValidateTokenResponse expected = ValidateTokenResponse.builder()
+        .valid(true)
+        .username("user")
+        .build();
+    when(jwtService.verifyToken("token")).thenReturn(verifiedToken);
+    when(authUserMapper.toValidateTokenResponse(verifiedToken)).thenReturn(expected);
+
+    ValidateTokenResponse response = authService.validateToken(request);
+
+    assertSame(expected, response);
+    verify(customUserDetailsService, never()).loadUserByUsername("user");
+  }
+
+  @Test
+  void validateToken_whenStatelessAndAccountLocked_throwsRejected() {
+    ReflectionTestUtils.setField(authService, "validationMode", ValidationMode.STATELESS);
+    ValidateTokenRequest request = ValidateTokenRequest.builder()
+        .token("token")
+        .build();
+    when(jwtService.verifyToken("token")).thenReturn(VerifiedToken.builder()
+        .subject("user")
+        .userId(UUID.randomUUID())
+        .email("user@example.com")
+        .role(Role.USER)
+        .accountStatus(AccountStatus.LOCKED)
+        .tokenType(TokenType.ACCESS)
+        .expiresAt(Instant.now().plusSeconds(60))
+        .build());
+
+    assertThrows(AccessTokenRejectedException.class, () -> authService.validateToken(request));
+  }
+
+  @Test
+  void validateTokens_resolvesUsersWithSingleBulkLookup() {
+    AuthUser user = new AuthUser();
+    user.setId(UUID.randomUUID());
+    user.setUsername("user");
+    user.setRole(Role.USER);
+    AuthUserDetails userDetails = new AuthUserDetails(user);
+    ValidateTokenResponse cached = ValidateTokenResponse.builder().valid(true).username("cached").build();
+    ValidateTokenResponse loaded = ValidateTokenResponse.builder().valid(true).username("user").build();
+    Instant expiresAt = Instant.now().plusSeconds(60);
+    BatchValidateTokenRequest request = BatchValidateTokenRequest.builder()
+        .tokens(List.of("cached-token", "bad-token", "user-token", "ghost-token"))
+        .build();
+    when(validateTokenCache.get("cached-token")).thenReturn(cached);
+    when(jwtService.verifyToken("bad-token")).thenThrow(new JwtException("invalid token"));
+    when(jwtService.verifyToken("user-token")).thenReturn(VerifiedToken.builder()
+        .subject("user").tokenType(TokenType.ACCESS).expiresAt(expiresAt).build());
+    when(jwtService.verifyToken("ghost-token")).thenReturn(VerifiedToken.builder()
+        .subject("ghost").tokenType(TokenType.ACCESS).expiresAt(expiresAt).build());
+    when(customUserDetailsService.loadUsersByUsernames(Set.of("user", "ghost")))
+        .thenReturn(Map.of("user", userDetails));
+    when(authUserMapper.toValidateTokenResponse(userDetails)).thenReturn(loaded);
+
+    BatchValidateTokenResponse response = authService.validateTokens(request);
+
+    assertEquals(4, response.getResults().size());
+    assertSame(cached, response.getResults().get(0).getValidation());
+    assertFalse(response.getResults().get(1).isValid());
+    assertSame(loaded, response.getResults().get(2).getValidation());
+    assertTrue(response.getResults().get(2).isValid());
+    assertFalse(response.getResults().get(3).isValid());
+    verify(customUserDetailsService, times(1)).loadUsersByUsernames(Set.of("user", "ghost"));
+    verify(validateTokenCache).put("user-token", loaded, expiresAt, 0L);
+  }
+
+  @Test
+  void validateTokens_whenBatchTooLarge_throwsValidationFailed() {
+    ReflectionTestUtils.setField(authService, "maxBatchSize", 1);
+    BatchValidateTokenRequest request = BatchValidateTokenRequest.builder()
+        .tokens(List.of("token-1", "token-2"))
+        .build();
+
+    assertThrows(TokenValidationFailedException.class, () -> authService.validateTokens(request));
+  }
+
+  @Test
+  void checkAvailability_whenFilterRulesOutBoth_answersWithoutQuery() {
+    credentialsFilter.replace(new BloomFilter(100, 0.01));
+    AvailabilityRequest request = AvailabilityRequest.builder()
+        .username("user")
+        .email("user@example.com")
+        .build();
+
+    AvailabilityResponse response = authService.checkAvailability(request);
+
+    assertTrue(response.getUsernameAvailable());
+    assertTrue(response.getEmailAvailable());
+    verifyNoInteractions(authUserRepository);
+  }
+
+  @Test
+  void checkAvailability_whenFilterIsUncertain_queriesOnlyUncertainValues() {
+    BloomFilter filter = new BloomFilter(100, 0.01);
+    CredentialsFilter.put(filter, "user", "other@example.com");
+    credentialsFilter.replace(filter);
+    when(authUserRepository.findCredentialsByUsernameOrEmail("user", null))
+        .thenReturn(List.of(new UserCredentials("user", "other@example.com")));
+    AvailabilityRequest request = AvailabilityRequest.builder()
+        .username("user")
+        .email("user@example.com")
+        .build();
+
+    AvailabilityResponse response = authService.checkAvailability(request);
+
+    assertFalse(response.getUsernameAvailable());
+    assertTrue(response.getEmailAvailable());
+  }
+
+  @Test
+  void checkAvailability_whenOnlyEmailRequested_leavesUsernameUnanswered() {
+    when(authUserRepository.findCredentialsByUsernameOrEmail(null, "user@example.com"))
+        .thenReturn(List.of(new UserCredentials("user", "user@example.com")));
+
+    AvailabilityResponse response = authService.checkAvailability(
+        AvailabilityRequest.builder().email("user@example.com").build());
+
+    assertNull(response.getUsernameAvailable());
+    assertFalse(response.getEmailAvailable());
+  }
 }
@@ -0,0 +1,131 @@
+package com.innowise.authservice.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.innowise.authservice.cache.CredentialsFilter;
+import com.innowise.authservice.model.dto.response.CredentialsFilterResponse;
+import com.innowise.authservice.model.projection.UserCredentials;
+import com.innowise.authservice.repository.AuthUserRepository;
+import com.innowise.authservice.util.BloomFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class CredentialsFilterServiceImplTest {
+
+    @Mock
+    private AuthUserRepository authUserRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @TempDir
+    private Path directory;
+
+    private CredentialsFilter credentialsFilter;
+    private Path snapshot;
+
+    @BeforeEach
+    void setUp() {
+        credentialsFilter = new CredentialsFilter(new SimpleMeterRegistry());
+        snapshot = directory.resolve("credentials.bin");
+    }
+
+    @Test
+    void rebuild_loadsEveryUserAndWritesSnapshot() {
+        when(authUserRepository.databaseTime()).thenReturn(LocalDateTime.now());
+        when(authUserRepository.count()).thenReturn(2L);
+        when(authUserRepository.streamAllCredentials()).thenReturn(Stream.of(
+                new UserCredentials("first", "first@example.com"),
+                new UserCredentials("second", "second@example.com")));
+        when(authUserRepository.streamCredentialsCreatedSince(any())).thenReturn(Stream.empty());
+
+        CredentialsFilterResponse response = service(snapshot.toString()).rebuild();
+
+        assertEquals(2, response.getUsers());
+        assertTrue(response.getBitSize() > 0);
+        assertTrue(credentialsFilter.mightContainUsername("first"));
+        assertTrue(credentialsFilter.mightContainEmail("second@example.com"));
+        assertFalse(credentialsFilter.mightContainUsername("third"));
+        assertTrue(Files.exists(snapshot));
+    }
+
+    @Test
+    void synchronize_addsUsersCreatedSinceLastSync() {
+        when(authUserRepository.databaseTime()).thenReturn(LocalDateTime.now());
+        when(authUserRepository.streamAllCredentials()).thenReturn(Stream.empty());
+        when(authUserRepository.streamCredentialsCreatedSince(any()))
+                .thenReturn(Stream.empty())
+                .thenReturn(Stream.of(new UserCredentials("late", "late@example.com")));
+        CredentialsFilterServiceImpl service = service("");
+        service.rebuild();
+
+        assertEquals(1, service.synchronize());
+        assertTrue(credentialsFilter.mightContainUsername("late"));
+    }
+
+    @Test
+    void synchronize_resumesFromDatabaseTimeOfPreviousRun() {
+        LocalDateTime rebuiltAt = LocalDateTime.of(2020, 1, 1, 12, 0);
+        LocalDateTime syncedAt = rebuiltAt.plusSeconds(30);
+        when(authUserRepository.databaseTime()).thenReturn(rebuiltAt, rebuiltAt, syncedAt);
+        when(authUserRepository.streamAllCredentials()).thenReturn(Stream.empty());
+        when(authUserRepository.streamCredentialsCreatedSince(any()))
+                .thenAnswer(invocation -> Stream.empty());
+        CredentialsFilterServiceImpl service = service("");
+        service.rebuild();
+
+        service.synchronize();
+        service.synchronize();
+
+        verify(authUserRepository, times(2))
+                .streamCredentialsCreatedSince(rebuiltAt.minusSeconds(5));
+        verify(authUserRepository).streamCredentialsCreatedSince(syncedAt.minusSeconds(5));
+    }
+
+    @Test
+    void synchronize_beforeFirstBuild_doesNothing() {
+        assertEquals(0, service("").synchronize());
+
+        verify(authUserRepository, never()).streamCredentialsCreatedSince(any());
+    }
+
+    @Test
+    void initialize_withSnapshot_restoresWithoutFullScan() throws Exception {
+        credentialsFilter.replace(new BloomFilter(1_000, 0.01));
+        credentialsFilter.add("stored", "stored@example.com");
+        credentialsFilter.writeSnapshot(snapshot, Instant.now());
+        credentialsFilter = new CredentialsFilter(new SimpleMeterRegistry());
+        when(authUserRepository.databaseTime()).thenReturn(LocalDateTime.now());
+        when(authUserRepository.streamCredentialsCreatedSince(any()))
+                .thenReturn(Stream.of(new UserCredentials("fresh", "fresh@example.com")));
+
+        service(snapshot.toString()).initialize();
+
+        assertTrue(credentialsFilter.mightContainUsername("stored"));
+        assertTrue(credentialsFilter.mightContainUsername("fresh"));
+        verify(authUserRepository, never()).streamAllCredentials();
+    }
+
+    private CredentialsFilterServiceImpl service(String snapshotPath) {
+        return new CredentialsFilterServiceImpl(authUserRepository, credentialsFilter,
+                transactionManager, 1_000, 0.01, 0.05, Duration.ofSeconds(5), snapshotPath);
+    }
+}
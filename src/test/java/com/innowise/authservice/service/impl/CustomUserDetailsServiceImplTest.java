@@ -0,0 +1,124 @@
+package com.innowise.authservice.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.innowise.authservice.config.security.AuthUserDetails;
+import com.innowise.authservice.event.AuthUserChangedEvent;
+import com.innowise.authservice.exception.AuthUserNotFoundException;
+import com.innowise.authservice.model.entity.AuthUser;
+import com.innowise.authservice.model.entity.type.Role;
+import com.innowise.authservice.repository.AuthUserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceImplTest {
+
+    @Mock
+    private AuthUserRepository authUserRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomUserDetailsServiceImpl userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsService = new CustomUserDetailsServiceImpl(
+                authUserRepository, meterRegistry, 100, Duration.ofMinutes(5));
+    }
+
+  @Test
+  void loadUserByUsername_cachesSnapshotAcrossCalls() {
+    AuthUser user = user(Role.USER);
+    when(authUserRepository.findByUsername("user")).thenReturn(Optional.of(user));
+
+    UserDetails first = userDetailsService.loadUserByUsername("user");
+    user.setRole(Role.ADMIN);
+    UserDetails second = userDetailsService.loadUserByUsername("user");
+
+    assertSame(first, second);
+    assertEquals(Role.USER, ((AuthUserDetails) second).getRole());
+    verify(authUserRepository, times(1)).findByUsername("user");
+    assertEquals(1, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter()
+        .count());
+  }
+
+  @Test
+  void onAuthUserChanged_reloadsUserOnNextCall() {
+    AuthUser user = user(Role.USER);
+    when(authUserRepository.findByUsername("user")).thenReturn(Optional.of(user));
+    userDetailsService.loadUserByUsername("user");
+    user.setRole(Role.ADMIN);
+
+    userDetailsService.onAuthUserChanged(new AuthUserChangedEvent(user.getId(), "user"));
+    AuthUserDetails reloaded = (AuthUserDetails) userDetailsService.loadUserByUsername("user");
+
+    assertEquals(Role.ADMIN, reloaded.getRole());
+    verify(authUserRepository, times(2)).findByUsername("user");
+  }
+
+  @Test
+  void loadUserByUsername_whenEvictedDuringLookup_doesNotCacheStaleSnapshot() {
+    AuthUser user = user(Role.USER);
+    when(authUserRepository.findByUsername("user")).thenAnswer(invocation -> {
+      userDetailsService.evictUser("user");
+      return Optional.of(user);
+    });
+
+    userDetailsService.loadUserByUsername("user");
+    userDetailsService.loadUserByUsername("user");
+
+    verify(authUserRepository, times(2)).findByUsername("user");
+  }
+
+  @Test
+  void loadUserByUsername_whenMissing_throwsNotFound() {
+    when(authUserRepository.findByUsername("missing")).thenReturn(Optional.empty());
+
+    assertThrows(AuthUserNotFoundException.class,
+        () -> userDetailsService.loadUserByUsername("missing"));
+  }
+
+  @Test
+  void loadUsersByUsernames_queriesOnlyUncachedUsersOnce() {
+    AuthUser cachedUser = user(Role.USER);
+    AuthUser other = user(Role.ADMIN);
+    other.setUsername("other");
+    when(authUserRepository.findByUsername("user")).thenReturn(Optional.of(cachedUser));
+    when(authUserRepository.findAllByUsernameIn(Set.of("other", "ghost"))).thenReturn(List.of(other));
+    userDetailsService.loadUserByUsername("user");
+
+    Map<String, AuthUserDetails> users =
+        userDetailsService.loadUsersByUsernames(List.of("user", "other", "ghost"));
+
+    assertEquals(Set.of("user", "other"), users.keySet());
+    assertEquals(Role.ADMIN, users.get("other").getRole());
+    verify(authUserRepository, times(1)).findAllByUsernameIn(Set.of("other", "ghost"));
+  }
+
+    private AuthUser user(Role role) {
+        AuthUser user = new AuthUser();
+        user.setId(UUID.randomUUID());
+        user.setUsername("user");
+        user.setEmail("user@example.com");
+        user.setPassword("encoded");
+        user.setRole(role);
+        return user;
+    }
+}
@@ -2,34 +2,61 @@ package com.innowise.authservice.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.innowise.authservice.cache.TokenVersionCache;
 import com.innowise.authservice.config.security.AuthUserDetails;
+import com.innowise.authservice.mapper.JsonWebKeyMapper;
 import com.innowise.authservice.mapper.TokenResponseMapper;
+import com.innowise.authservice.model.dto.response.JsonWebKey;
 import com.innowise.authservice.model.dto.response.TokenResponse;
 import com.innowise.authservice.model.entity.AuthUser;
+import com.innowise.authservice.model.entity.type.AccountStatus;
 import com.innowise.authservice.model.entity.type.Role;
+import com.innowise.authservice.model.entity.type.TokenType;
+import com.innowise.authservice.model.token.VerifiedToken;
+import com.innowise.authservice.service.jwt.HmacJwtCodec;
+import com.innowise.authservice.service.jwt.JwtKeyring;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.util.ReflectionTestUtils;
 
 class JwtServiceImplTest {
 
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final String ROTATED_SECRET = "fedcba9876543210fedcba9876543210";
+
+    private MockEnvironment environment;
+    private JwtKeyring jwtKeyring;
+    private TokenVersionCache tokenVersionCache;
     private JwtServiceImpl jwtService;
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtServiceImpl(new TokenResponseMapper());
-        ReflectionTestUtils.setField(jwtService, "secret",
-                "0123456789abcdef0123456789abcdef");
+        environment = new MockEnvironment().withProperty("jwt.secret", SECRET);
+        jwtKeyring = new JwtKeyring(environment);
+        tokenVersionCache = new TokenVersionCache(new SimpleMeterRegistry(), 16);
+        jwtService = new JwtServiceImpl(new TokenResponseMapper(), jwtKeyring,
+                new HmacJwtCodec(jwtKeyring), tokenVersionCache);
         ReflectionTestUtils.setField(jwtService, "tokenExpiration", 60000L);
         ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 120000L);
     }
@@ -54,6 +81,45 @@ class JwtServiceImplTest {
     assertEquals(Role.USER, jwtService.extractRole(response.getAccessToken()));
   }
 
+  @Test
+  void generateTokens_givesEachRefreshTokenItsOwnId() {
+    AuthUser user = new AuthUser();
+    user.setId(UUID.randomUUID());
+    user.setUsername("user");
+    user.setEmail("user@example.com");
+    user.setRole(Role.USER);
+    AuthUserDetails userDetails = new AuthUserDetails(user);
+
+    TokenResponse first = jwtService.generateTokens(userDetails);
+    TokenResponse second = jwtService.generateTokens(userDetails);
+
+    VerifiedToken refresh = jwtService.verifyToken(first.getRefreshToken());
+    assertNotNull(refresh.getTokenId());
+    assertNotEquals(refresh.getTokenId(),
+        jwtService.verifyToken(second.getRefreshToken()).getTokenId());
+    assertNull(jwtService.verifyToken(first.getAccessToken()).getTokenId());
+  }
+
+  @Test
+  void verifyToken_rejectsTokensIssuedBeforeRoleChange() {
+    AuthUser user = new AuthUser();
+    user.setId(UUID.randomUUID());
+    user.setUsername("user");
+    user.setEmail("user@example.com");
+    user.setRole(Role.USER);
+    TokenResponse before = jwtService.generateTokens(new AuthUserDetails(user));
+
+    user.setRole(Role.ADMIN);
+    tokenVersionCache.update(user.getId(), user.getTokenVersion(), Instant.now());
+    TokenResponse after = jwtService.generateTokens(new AuthUserDetails(user));
+
+    assertThrows(JwtException.class, () -> jwtService.verifyToken(before.getAccessToken()));
+    assertThrows(JwtException.class, () -> jwtService.verifyToken(before.getRefreshToken()));
+    VerifiedToken verified = jwtService.verifyToken(after.getAccessToken());
+    assertEquals(1, verified.getTokenVersion());
+    assertEquals(Role.ADMIN, verified.getRole());
+  }
+
   @Test
   void validateToken_allowsValidToken() {
     UUID userId = UUID.randomUUID();
@@ -68,6 +134,29 @@ class JwtServiceImplTest {
         assertDoesNotThrow(() -> jwtService.validateToken(response.getAccessToken()));
     }
 
+  @Test
+  void verifyToken_returnsAllClaimsFromSingleParse() {
+    UUID userId = UUID.randomUUID();
+    AuthUser user = new AuthUser();
+    user.setId(userId);
+    user.setUsername("user");
+    user.setEmail("user@example.com");
+    user.setRole(Role.ADMIN);
+    TokenResponse response = jwtService.generateTokens(new AuthUserDetails(user));
+
+    VerifiedToken accessToken = jwtService.verifyToken(response.getAccessToken());
+    VerifiedToken refreshToken = jwtService.verifyToken(response.getRefreshToken());
+
+    assertEquals("user", accessToken.getSubject());
+    assertEquals(userId, accessToken.getUserId());
+    assertEquals(Role.ADMIN, accessToken.getRole());
+    assertEquals("user@example.com", accessToken.getEmail());
+    assertEquals(AccountStatus.ACTIVE, accessToken.getAccountStatus());
+    assertEquals(TokenType.ACCESS, accessToken.getTokenType());
+    assertNotNull(accessToken.getExpiresAt());
+    assertEquals(TokenType.REFRESH, refreshToken.getTokenType());
+  }
+
     @Test
     void validateToken_throwsForMalformedToken() {
         assertThrows(JwtException.class, () -> jwtService.validateToken("not-a-token"));
@@ -80,10 +169,100 @@ class JwtServiceImplTest {
                 .setIssuedAt(new Date(System.currentTimeMillis() - 60000))
                 .setExpiration(new Date(System.currentTimeMillis() - 1000))
                 .signWith(Keys.hmacShaKeyFor(
-                        "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8)),
+                        SECRET.getBytes(StandardCharsets.UTF_8)),
                         SignatureAlgorithm.HS256)
                 .compact();
 
         assertThrows(JwtException.class, () -> jwtService.validateToken(expiredToken));
     }
+
+  @Test
+  void verifyToken_acceptsTokenWithoutKeyIdSignedByDefaultKey() {
+    String legacyToken = Jwts.builder()
+        .setSubject("user")
+        .claim("tokenType", TokenType.ACCESS.name())
+        .setExpiration(new Date(System.currentTimeMillis() + 60000))
+        .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)),
+            SignatureAlgorithm.HS256)
+        .compact();
+
+    assertEquals("user", jwtService.verifyToken(legacyToken).getSubject());
+  }
+
+  @Test
+  void verifyToken_afterRotation_acceptsTokensFromPreviousKey() {
+    AuthUser user = new AuthUser();
+    user.setId(UUID.randomUUID());
+    user.setUsername("user");
+    user.setRole(Role.USER);
+    String previousToken = jwtService.generateTokens(new AuthUserDetails(user)).getAccessToken();
+
+    environment.setProperty("jwt.keys[0].kid", "rotated");
+    environment.setProperty("jwt.keys[0].secret", ROTATED_SECRET);
+    environment.setProperty("jwt.signing-key-id", "rotated");
+    jwtKeyring.reload();
+    String rotatedToken = jwtService.generateTokens(new AuthUserDetails(user)).getAccessToken();
+
+    assertEquals("user", jwtService.verifyToken(previousToken).getSubject());
+    assertEquals("user", jwtService.verifyToken(rotatedToken).getSubject());
+    assertEquals("rotated", jwtKeyring.signingKey().getKid());
+  }
+
+  @Test
+  void verifyToken_throwsForUnknownKeyId() {
+    String foreignToken = Jwts.builder()
+        .setHeaderParam("kid", "unknown")
+        .setSubject("user")
+        .claim("tokenType", TokenType.ACCESS.name())
+        .setExpiration(new Date(System.currentTimeMillis() + 60000))
+        .signWith(Keys.hmacShaKeyFor(ROTATED_SECRET.getBytes(StandardCharsets.UTF_8)),
+            SignatureAlgorithm.HS256)
+        .compact();
+
+    assertThrows(JwtException.class, () -> jwtService.verifyToken(foreignToken));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"RS256", "ES256"})
+  void generateTokens_withAsymmetricSigningKey_verifiesAndPublishesJwk(String algorithm)
+      throws Exception {
+    KeyPair keyPair = algorithm.startsWith("RS") ? rsaKeyPair() : ecKeyPair();
+    environment.setProperty("jwt.keys[0].kid", "asymmetric");
+    environment.setProperty("jwt.keys[0].algorithm", algorithm);
+    environment.setProperty("jwt.keys[0].private-key", pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+    environment.setProperty("jwt.keys[0].public-key", pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+    environment.setProperty("jwt.signing-key-id", "asymmetric");
+    jwtKeyring.reload();
+    AuthUser user = new AuthUser();
+    user.setId(UUID.randomUUID());
+    user.setUsername("user");
+    user.setEmail("user@example.com");
+    user.setRole(Role.USER);
+
+    String token = jwtService.generateTokens(new AuthUserDetails(user)).getAccessToken();
+    JsonWebKey jwk = new JsonWebKeyMapper().toJsonWebKey(jwtKeyring.verificationKey("asymmetric"));
+
+    assertEquals("user", jwtService.verifyToken(token).getSubject());
+    assertEquals(algorithm, jwk.getAlg());
+    assertEquals("asymmetric", jwk.getKid());
+    assertNotNull(algorithm.startsWith("RS") ? jwk.getN() : jwk.getX());
+  }
+
+    private KeyPair rsaKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private KeyPair ecKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private String pem(String type, byte[] encoded) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(encoded)
+                + "\n-----END " + type + "-----";
+    }
 }
@@ -0,0 +1,250 @@
+package com.innowise.authservice.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.innowise.authservice.client.UserProfileBatcher;
+import com.innowise.authservice.client.UserServiceClient;
+import com.innowise.authservice.model.dto.request.CreateUserProfileRequest;
+import com.innowise.authservice.model.entity.OutboxEvent;
+import com.innowise.authservice.model.entity.type.OutboxEventStatus;
+import com.innowise.authservice.model.entity.type.OutboxEventType;
+import com.innowise.authservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceImplTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private UserServiceClient userServiceClient;
+    @Mock
+    private UserProfileBatcher userProfileBatcher;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OutboxServiceImpl outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = outboxService(false);
+    }
+
+    private OutboxServiceImpl outboxService(boolean bulkDelivery) {
+        return new OutboxServiceImpl(outboxEventRepository, userServiceClient, userProfileBatcher,
+                transactionTemplate, jsonMapper, new SimpleMeterRegistry(), 10, 3,
+                Duration.ofSeconds(30), Duration.ofSeconds(1), Duration.ofSeconds(60), bulkDelivery,
+                Duration.ofSeconds(10));
+    }
+
+    @Test
+    void enqueueUserProfileCreation_storesSerializedRequestKeyedByUserId() {
+        CreateUserProfileRequest request = profileRequest(UUID.randomUUID());
+
+        outboxService.enqueueUserProfileCreation(request);
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(outboxEventRepository).insertIfAbsent(any(), eq(request.getId()),
+                eq(OutboxEventType.USER_PROFILE_CREATION.name()), payload.capture());
+        assertEquals(request, jsonMapper.readValue(payload.getValue(),
+                CreateUserProfileRequest.class));
+    }
+
+    @Test
+    void dispatch_leasesBatchAndDeletesDeliveredEvents() {
+        OutboxEvent first = event(profileRequest(UUID.randomUUID()), 0);
+        OutboxEvent second = event(profileRequest(UUID.randomUUID()), 0);
+        claim(first, second);
+
+        int delivered = outboxService.dispatch();
+
+        assertEquals(2, delivered);
+        assertTrue(first.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(20)));
+        verify(userServiceClient).createUserProfile(profileRequest(first.getAggregateId()));
+        verify(userServiceClient).createUserProfile(profileRequest(second.getAggregateId()));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(first.getId(), second.getId()));
+    }
+
+    @Test
+    void dispatch_leasesFromDatabaseClock() {
+        OutboxEvent event = event(profileRequest(UUID.randomUUID()), 0);
+        claim(event);
+        LocalDateTime databaseNow = LocalDateTime.now().plusHours(1);
+        when(outboxEventRepository.databaseTime()).thenReturn(databaseNow);
+
+        outboxService.dispatch();
+
+        verify(outboxEventRepository).findDueForUpdate(eq(OutboxEventStatus.PENDING),
+                eq(databaseNow), any(Pageable.class));
+        assertEquals(databaseNow.plusSeconds(30), event.getNextAttemptAt());
+    }
+
+    @Test
+    void dispatch_whenProfileAlreadyExists_treatsEventAsDelivered() {
+        OutboxEvent event = event(profileRequest(UUID.randomUUID()), 0);
+        claim(event);
+        doThrow(HttpClientErrorException.create(HttpStatus.CONFLICT, "Conflict",
+                HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8))
+                .when(userServiceClient).createUserProfile(any());
+
+        assertEquals(1, outboxService.dispatch());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(event.getId()));
+        verify(outboxEventRepository, never()).reschedule(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void dispatch_whenUserServiceFails_reschedulesWithBackoff() {
+        OutboxEvent event = event(profileRequest(UUID.randomUUID()), 0);
+        LocalDateTime before = LocalDateTime.now();
+        claim(event);
+        doThrow(HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Unavailable",
+                HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8))
+                .when(userServiceClient).createUserProfile(any());
+
+        assertEquals(0, outboxService.dispatch());
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxEventRepository).reschedule(eq(event.getId()), eq(OutboxEventStatus.PENDING),
+                eq(1), nextAttemptAt.capture(), anyString());
+        assertTrue(!nextAttemptAt.getValue().isBefore(before.plusNanos(500_000_000)));
+        assertTrue(nextAttemptAt.getValue().isBefore(before.plusSeconds(30)));
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void dispatch_whenRequestIsRejected_marksEventFailed() {
+        OutboxEvent event = event(profileRequest(UUID.randomUUID()), 0);
+        claim(event);
+        doThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request",
+                HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8))
+                .when(userServiceClient).createUserProfile(any());
+
+        outboxService.dispatch();
+
+        verify(outboxEventRepository).reschedule(eq(event.getId()), eq(OutboxEventStatus.FAILED),
+                eq(1), any(), anyString());
+    }
+
+    @Test
+    void dispatch_whenAttemptsExhausted_marksEventFailed() {
+        OutboxEvent event = event(profileRequest(UUID.randomUUID()), 2);
+        claim(event);
+        doThrow(new IllegalStateException("connection reset"))
+                .when(userServiceClient).createUserProfile(any());
+
+        outboxService.dispatch();
+
+        verify(outboxEventRepository).reschedule(eq(event.getId()), eq(OutboxEventStatus.FAILED),
+                eq(3), any(), anyString());
+    }
+
+    @Test
+    void dispatch_withBulkDelivery_mapsPerItemResultsBackToEvents() {
+        OutboxEvent created = event(profileRequest(UUID.randomUUID()), 0);
+        OutboxEvent existing = event(profileRequest(UUID.randomUUID()), 0);
+        OutboxEvent unavailable = event(profileRequest(UUID.randomUUID()), 0);
+        claim(created, existing, unavailable);
+        when(userProfileBatcher.submit(profileRequest(created.getAggregateId())))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(userProfileBatcher.submit(profileRequest(existing.getAggregateId())))
+                .thenReturn(CompletableFuture.failedFuture(HttpClientErrorException.create(
+                        HttpStatus.CONFLICT, "Conflict", HttpHeaders.EMPTY, new byte[0],
+                        StandardCharsets.UTF_8)));
+        when(userProfileBatcher.submit(profileRequest(unavailable.getAggregateId())))
+                .thenReturn(CompletableFuture.failedFuture(HttpServerErrorException.create(
+                        HttpStatus.SERVICE_UNAVAILABLE, "Unavailable", HttpHeaders.EMPTY,
+                        new byte[0], StandardCharsets.UTF_8)));
+
+        int delivered = outboxService(true).dispatch();
+
+        assertEquals(2, delivered);
+        verify(userProfileBatcher).flush();
+        verify(userServiceClient, never()).createUserProfile(any());
+        verify(outboxEventRepository).deleteAllByIdInBatch(
+                List.of(created.getId(), existing.getId()));
+        verify(outboxEventRepository).reschedule(eq(unavailable.getId()),
+                eq(OutboxEventStatus.PENDING), eq(1), any(), anyString());
+    }
+
+    @Test
+    void redriveFailed_requeuesFailedEvents() {
+        when(outboxEventRepository.redrive(OutboxEventStatus.FAILED, OutboxEventStatus.PENDING))
+                .thenReturn(2);
+
+        assertEquals(2, outboxService.redriveFailed());
+    }
+
+    @Test
+    void backoff_growsExponentiallyWithJitterUpToCap() {
+        for (int attempt = 1; attempt <= 10; attempt++) {
+            long ceiling = Math.min(60_000L, 1_000L << (attempt - 1));
+            long delay = outboxService.backoff(attempt).toMillis();
+            assertTrue(delay >= ceiling / 2 && delay <= ceiling, "attempt " + attempt + ": " + delay);
+        }
+        assertTrue(outboxService.backoff(100).toMillis() <= 60_000L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void claim(OutboxEvent... events) {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+        when(outboxEventRepository.findDueForUpdate(eq(OutboxEventStatus.PENDING), any(),
+                any(Pageable.class))).thenReturn(List.of(events));
+        when(outboxEventRepository.databaseTime()).thenReturn(LocalDateTime.now());
+    }
+
+    private OutboxEvent event(CreateUserProfileRequest request, int attempts) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(UUID.randomUUID());
+        event.setAggregateId(request.getId());
+        event.setEventType(OutboxEventType.USER_PROFILE_CREATION);
+        event.setPayload(jsonMapper.writeValueAsString(request));
+        event.setStatus(OutboxEventStatus.PENDING);
+        event.setAttempts(attempts);
+        event.setNextAttemptAt(LocalDateTime.now());
+        event.setCreatedAt(LocalDateTime.now());
+        return event;
+    }
+
+    private CreateUserProfileRequest profileRequest(UUID userId) {
+        return CreateUserProfileRequest.builder()
+                .id(userId)
+                .name("Name")
+                .surname("Surname")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .email(userId + "@example.com")
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.innowise.authservice.service.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.innowise.authservice.config.security.AuthUserDetails;
+import com.innowise.authservice.config.security.BoundedPasswordEncoder;
+import com.innowise.authservice.event.AuthUserChangedEvent;
+import com.innowise.authservice.exception.PasswordHashingUnavailableException;
+import com.innowise.authservice.model.entity.AuthUser;
+import com.innowise.authservice.model.entity.type.Role;
+import com.innowise.authservice.repository.AuthUserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordUpgradeServiceImplTest {
+
+    private static final String OLD_HASH = "$2a$08$old";
+    private static final String NEW_HASH = "{bcrypt}$2a$10$new";
+
+    @Mock
+    private AuthUserRepository authUserRepository;
+    @Mock
+    private BoundedPasswordEncoder passwordEncoder;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final Queue<Runnable> pendingWrites = new ArrayDeque<>();
+    private PasswordUpgradeServiceImpl passwordUpgradeService;
+    private AuthUserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        passwordUpgradeService = new PasswordUpgradeServiceImpl(authUserRepository, passwordEncoder,
+                eventPublisher, new SimpleMeterRegistry(), true, 1, pendingWrites::add);
+        userDetails = userDetails("user");
+    }
+
+    @Test
+    void upgradeIfNeeded_coalescesLoginsWhileRehashIsInFlight() {
+        CompletableFuture<String> rehash = new CompletableFuture<>();
+        when(passwordEncoder.upgradeEncoding(OLD_HASH)).thenReturn(true);
+        when(passwordEncoder.encodeAsync("password")).thenReturn(rehash);
+        when(authUserRepository.updatePasswordIfUnchanged(userDetails.getUserId(), OLD_HASH,
+                NEW_HASH)).thenReturn(1);
+
+        passwordUpgradeService.upgradeIfNeeded(userDetails, "password");
+        passwordUpgradeService.upgradeIfNeeded(userDetails, "password");
+        rehash.complete(NEW_HASH);
+        runPendingWrites();
+
+        verify(passwordEncoder, times(1)).encodeAsync("password");
+        verify(eventPublisher).publishEvent(new AuthUserChangedEvent(userDetails.getUserId(), "user"));
+    }
+
+    @Test
+    void upgradeIfNeeded_whenHashIsCurrent_doesNothing() {
+        when(passwordEncoder.upgradeEncoding(OLD_HASH)).thenReturn(false);
+
+        passwordUpgradeService.upgradeIfNeeded(userDetails, "password");
+
+        verify(passwordEncoder, never()).encodeAsync(any());
+    }
+
+    @Test
+    void upgradeIfNeeded_whenInFlightLimitReached_skipsOtherUsers() {
+        when(passwordEncoder.upgradeEncoding(OLD_HASH)).thenReturn(true);
+        when(passwordEncoder.encodeAsync("password")).thenReturn(new CompletableFuture<>());
+
+        passwordUpgradeService.upgradeIfNeeded(userDetails, "password");
+        passwordUpgradeService.upgradeIfNeeded(userDetails("other"), "password");
+
+        verify(passwordEncoder, times(1)).encodeAsync("password");
+    }
+
+    @Test
+    void upgradeIfNeeded_whenPasswordChangedConcurrently_skipsWriteWithoutEvent() {
+        when(passwordEncoder.upgradeEncoding(OLD_HASH)).thenReturn(true);
+        when(passwordEncoder.encodeAsync("password"))
+                .thenReturn(CompletableFuture.completedFuture(NEW_HASH));
+        when(authUserRepository.updatePasswordIfUnchanged(any(), any(), any())).thenReturn(0);
+
+        passwordUpgradeService.upgradeIfNeeded(userDetails, "password");
+        runPendingWrites();
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void upgradeIfNeeded_whenHashingIsSaturated_dropsUpgradeAndAllowsRetry() {
+        when(passwordEncoder.upgradeEncoding(OLD_HASH)).thenReturn(true);
+        when(passwordEncoder.encodeAsync("password"))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new PasswordHashingUnavailableException(Duration.ofSeconds(1))));
+
+        passwordUpgradeService.upgradeIfNeeded(userDetails, "password");
+        runPendingWrites();
+        passwordUpgradeService.upgradeIfNeeded(userDetails, "password");
+        runPendingWrites();
+
+        verify(passwordEncoder, times(2)).encodeAsync("password");
+        verify(authUserRepository, never()).updatePasswordIfUnchanged(any(), any(), any());
+    }
+
+    @Test
+    void upgradeIfNeeded_storesRehashOnWriterInsteadOfHashingThread() {
+        CompletableFuture<String> rehash = new CompletableFuture<>();
+        when(passwordEncoder.upgradeEncoding(OLD_HASH)).thenReturn(true);
+        when(passwordEncoder.encodeAsync("password")).thenReturn(rehash);
+        when(authUserRepository.updatePasswordIfUnchanged(userDetails.getUserId(), OLD_HASH,
+                NEW_HASH)).thenReturn(1);
+
+        passwordUpgradeService.upgradeIfNeeded(userDetails, "password");
+        rehash.complete(NEW_HASH);
+
+        verify(authUserRepository, never()).updatePasswordIfUnchanged(any(), any(), any());
+        runPendingWrites();
+        verify(authUserRepository).updatePasswordIfUnchanged(userDetails.getUserId(), OLD_HASH,
+                NEW_HASH);
+    }
+
+    private void runPendingWrites() {
+        Runnable write;
+        while ((write = pendingWrites.poll()) != null) {
+            write.run();
+        }
+    }
+
+    private AuthUserDetails userDetails(String username) {
+        AuthUser user = new AuthUser();
+        user.setId(UUID.randomUUID());
+        user.setUsername(username);
+        user.setPassword(OLD_HASH);
+        user.setRole(Role.USER);
+        return new AuthUserDetails(user);
+    }
+}
@@ -0,0 +1,184 @@
+package com.innowise.authservice.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.innowise.authservice.exception.RefreshTokenRejectedException;
+import com.innowise.authservice.model.entity.RefreshToken;
+import com.innowise.authservice.model.token.VerifiedToken;
+import com.innowise.authservice.repository.RefreshTokenRepository;
+import com.innowise.authservice.util.TokenDigests;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceImplTest {
+
+    private static final String TOKEN = "refresh-token";
+    private static final String TOKEN_HASH = TokenDigests.sha256Base64(TOKEN);
+    private static final VerifiedToken VERIFIED = VerifiedToken.builder()
+            .tokenId("jti")
+            .subject("user")
+            .expiresAt(Instant.now().plusSeconds(300))
+            .build();
+    private static final VerifiedToken LEGACY = VerifiedToken.builder()
+            .subject("user")
+            .expiresAt(Instant.now().plusSeconds(300))
+            .build();
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenServiceImpl(refreshTokenRepository,
+                transactionManager, new SimpleMeterRegistry(), 60_000L, 100, 3, true);
+    }
+
+    @Test
+    void register_storesDigestInsteadOfToken() {
+        UUID familyId = UUID.randomUUID();
+        LocalDateTime before = LocalDateTime.now();
+
+        refreshTokenService.register(TOKEN, "user", familyId);
+
+        ArgumentCaptor<LocalDateTime> expiresAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(refreshTokenRepository).insert(eq(TOKEN_HASH), eq(familyId), eq("user"),
+                expiresAt.capture(), any());
+        assertTrue(!expiresAt.getValue().isBefore(before.plusMinutes(1)));
+    }
+
+    @Test
+    void consume_whenUnused_marksUsedAndReturnsFamily() {
+        RefreshToken stored = stored(null, LocalDateTime.now().plusMinutes(5));
+        when(refreshTokenRepository.findById(TOKEN_HASH)).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(eq(TOKEN_HASH), any())).thenReturn(1);
+
+        UUID familyId = refreshTokenService.consume(TOKEN, VERIFIED);
+
+        assertEquals(stored.getFamilyId(), familyId);
+        verify(refreshTokenRepository, never()).deleteFamily(any());
+    }
+
+    @Test
+    void consume_whenUnknown_rejects() {
+        when(refreshTokenRepository.findById(TOKEN_HASH)).thenReturn(Optional.empty());
+
+        assertThrows(RefreshTokenRejectedException.class,
+                () -> refreshTokenService.consume(TOKEN, VERIFIED));
+        verify(refreshTokenRepository, never()).markUsed(any(), any());
+    }
+
+    @Test
+    void consume_whenUnknownLegacyToken_adoptsItAsUsedInNewFamily() {
+        when(refreshTokenRepository.findById(TOKEN_HASH)).thenReturn(Optional.empty());
+        when(refreshTokenRepository.insertUsedIfAbsent(eq(TOKEN_HASH), any(), eq("user"), any(),
+                any())).thenReturn(1);
+
+        UUID familyId = refreshTokenService.consume(TOKEN, LEGACY);
+
+        verify(refreshTokenRepository).insertUsedIfAbsent(eq(TOKEN_HASH), eq(familyId), eq("user"),
+                any(), any());
+        verify(refreshTokenRepository, never()).markUsed(any(), any());
+    }
+
+    @Test
+    void consume_whenLegacyTokenAlreadyAdopted_rejects() {
+        when(refreshTokenRepository.findById(TOKEN_HASH)).thenReturn(Optional.empty());
+        when(refreshTokenRepository.insertUsedIfAbsent(any(), any(), any(), any(), any()))
+                .thenReturn(0);
+
+        assertThrows(RefreshTokenRejectedException.class,
+                () -> refreshTokenService.consume(TOKEN, LEGACY));
+    }
+
+    @Test
+    void consume_whenLegacyAdoptionDisabled_rejects() {
+        refreshTokenService = new RefreshTokenServiceImpl(refreshTokenRepository,
+                transactionManager, new SimpleMeterRegistry(), 60_000L, 100, 3, false);
+        when(refreshTokenRepository.findById(TOKEN_HASH)).thenReturn(Optional.empty());
+
+        assertThrows(RefreshTokenRejectedException.class,
+                () -> refreshTokenService.consume(TOKEN, LEGACY));
+        verify(refreshTokenRepository, never()).insertUsedIfAbsent(any(), any(), any(), any(),
+                any());
+    }
+
+    @Test
+    void consume_whenExpired_rejects() {
+        when(refreshTokenRepository.findById(TOKEN_HASH))
+                .thenReturn(Optional.of(stored(null, LocalDateTime.now().minusSeconds(1))));
+
+        assertThrows(RefreshTokenRejectedException.class,
+                () -> refreshTokenService.consume(TOKEN, VERIFIED));
+        verify(refreshTokenRepository, never()).markUsed(any(), any());
+    }
+
+    @Test
+    void consume_whenAlreadyUsed_revokesFamily() {
+        RefreshToken stored = stored(LocalDateTime.now().minusMinutes(1),
+                LocalDateTime.now().plusMinutes(5));
+        when(refreshTokenRepository.findById(TOKEN_HASH)).thenReturn(Optional.of(stored));
+
+        assertThrows(RefreshTokenRejectedException.class,
+                () -> refreshTokenService.consume(TOKEN, VERIFIED));
+        verify(refreshTokenRepository).deleteFamily(stored.getFamilyId());
+        verify(refreshTokenRepository, never()).markUsed(any(), any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void consume_whenConcurrentRotationWins_revokesFamily() {
+        RefreshToken stored = stored(null, LocalDateTime.now().plusMinutes(5));
+        when(refreshTokenRepository.findById(TOKEN_HASH)).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(eq(TOKEN_HASH), any())).thenReturn(0);
+
+        assertThrows(RefreshTokenRejectedException.class,
+                () -> refreshTokenService.consume(TOKEN, VERIFIED));
+        verify(refreshTokenRepository).deleteFamily(stored.getFamilyId());
+    }
+
+    @Test
+    void purgeExpired_deletesInChunksUntilShortChunk() {
+        when(refreshTokenRepository.deleteExpired(any(), eq(100))).thenReturn(100, 100, 40);
+
+        assertEquals(240, refreshTokenService.purgeExpired());
+        verify(refreshTokenRepository, times(3)).deleteExpired(any(), anyInt());
+    }
+
+    @Test
+    void purgeExpired_stopsAfterMaxChunks() {
+        when(refreshTokenRepository.deleteExpired(any(), eq(100))).thenReturn(100);
+
+        assertEquals(300, refreshTokenService.purgeExpired());
+        verify(refreshTokenRepository, times(3)).deleteExpired(any(), anyInt());
+    }
+
+    private RefreshToken stored(LocalDateTime usedAt, LocalDateTime expiresAt) {
+        return new RefreshToken(TOKEN_HASH, UUID.randomUUID(), "user", expiresAt, usedAt,
+                LocalDateTime.now().minusMinutes(10));
+    }
+}
@@ -0,0 +1,136 @@
+package com.innowise.authservice.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.innowise.authservice.cache.TokenRevocationCache;
+import com.innowise.authservice.exception.TokenValidationFailedException;
+import com.innowise.authservice.model.dto.response.RevokeTokenResponse;
+import com.innowise.authservice.model.entity.RevokedToken;
+import com.innowise.authservice.model.entity.type.TokenType;
+import com.innowise.authservice.model.token.VerifiedToken;
+import com.innowise.authservice.repository.RevokedTokenRepository;
+import com.innowise.authservice.service.JwtService;
+import com.innowise.authservice.util.TokenDigests;
+import io.jsonwebtoken.JwtException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceImplTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+    @Mock
+    private TokenRevocationCache tokenRevocationCache;
+    @Mock
+    private JwtService jwtService;
+
+    private TokenRevocationServiceImpl tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationServiceImpl(revokedTokenRepository,
+                tokenRevocationCache, jwtService, 2, Duration.ofSeconds(5), 100, 3);
+    }
+
+    @Test
+    void revoke_persistsDigestAndUpdatesCache() {
+        Instant expiresAt = Instant.now().plusSeconds(60).truncatedTo(ChronoUnit.SECONDS);
+        when(jwtService.verifyToken("token")).thenReturn(VerifiedToken.builder()
+                .subject("user")
+                .tokenType(TokenType.ACCESS)
+                .expiresAt(expiresAt)
+                .build());
+
+        RevokeTokenResponse response = tokenRevocationService.revoke("token");
+
+        String tokenHash = TokenDigests.sha256Base64("token");
+        long fingerprint = TokenRevocationCache.fingerprint("token");
+        verify(revokedTokenRepository).insertIfAbsent(eq(tokenHash), eq(fingerprint), eq("user"),
+                any());
+        verify(tokenRevocationCache).add(tokenHash, fingerprint, expiresAt);
+        assertEquals("user", response.getUsername());
+        assertEquals(TokenType.ACCESS, response.getTokenType());
+        assertEquals(expiresAt, response.getExpiresAt());
+    }
+
+    @Test
+    void revoke_whenTokenInvalid_throwsValidationFailed() {
+        when(jwtService.verifyToken("token")).thenThrow(new JwtException("Token is expired"));
+
+        assertThrows(TokenValidationFailedException.class,
+                () -> tokenRevocationService.revoke("token"));
+        verify(revokedTokenRepository, never())
+                .insertIfAbsent(anyString(), anyLong(), any(), any());
+    }
+
+    @Test
+    void synchronize_pagesThroughNewRevocationsByKeyset() {
+        LocalDateTime revokedAt = LocalDateTime.now().minusSeconds(1);
+        RevokedToken first = revoked("a", revokedAt);
+        RevokedToken second = revoked("b", revokedAt);
+        RevokedToken third = revoked("c", revokedAt.plusNanos(1000));
+        when(revokedTokenRepository.findActiveRevokedAfter(any(), eq(""), any(), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+        when(revokedTokenRepository.findActiveRevokedAfter(eq(revokedAt), eq("b"), any(),
+                any(Pageable.class)))
+                .thenReturn(List.of(third));
+
+        assertEquals(3, tokenRevocationService.synchronize());
+
+        verify(tokenRevocationCache, times(3)).add(anyString(), anyLong(), any());
+    }
+
+    @Test
+    void synchronize_resumesFromNewestStoredRevocationMinusOverlap() {
+        LocalDateTime revokedAt = LocalDateTime.of(2020, 1, 1, 12, 0);
+        when(revokedTokenRepository.findActiveRevokedAfter(any(), eq(""), any(), any(Pageable.class)))
+                .thenReturn(List.of(revoked("a", revokedAt)), List.of());
+
+        tokenRevocationService.synchronize();
+        tokenRevocationService.synchronize();
+        tokenRevocationService.synchronize();
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(revokedTokenRepository, times(3)).findActiveRevokedAfter(since.capture(), eq(""),
+                any(), any(Pageable.class));
+        assertEquals(1970, since.getAllValues().get(0).plusSeconds(5).getYear());
+        assertEquals(revokedAt.minusSeconds(5), since.getAllValues().get(1));
+        assertEquals(revokedAt.minusSeconds(5), since.getAllValues().get(2));
+    }
+
+    @Test
+    void purgeExpired_evictsCacheAndDeletesInChunks() {
+        when(revokedTokenRepository.deleteExpired(any(), eq(100))).thenReturn(100, 20);
+
+        assertEquals(120, tokenRevocationService.purgeExpired());
+
+        verify(tokenRevocationCache).evictExpired(any());
+        verify(revokedTokenRepository, times(2)).deleteExpired(any(), anyInt());
+    }
+
+    private RevokedToken revoked(String token, LocalDateTime revokedAt) {
+        return new RevokedToken(token, TokenRevocationCache.fingerprint(token), "user",
+                revokedAt.plusMinutes(5), revokedAt);
+    }
+}
@@ -0,0 +1,109 @@
+package com.innowise.authservice.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.innowise.authservice.cache.TokenVersionCache;
+import com.innowise.authservice.cache.ValidateTokenCache;
+import com.innowise.authservice.event.AuthUserChangedEvent;
+import com.innowise.authservice.model.token.UserTokenVersion;
+import com.innowise.authservice.repository.AuthUserRepository;
+import com.innowise.authservice.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionServiceImplTest {
+
+    @Mock
+    private AuthUserRepository authUserRepository;
+    @Mock
+    private ValidateTokenCache validateTokenCache;
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+
+    private TokenVersionCache tokenVersionCache;
+    private TokenVersionServiceImpl tokenVersionService;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersionCache = new TokenVersionCache(new SimpleMeterRegistry(), 16);
+        tokenVersionService = new TokenVersionServiceImpl(authUserRepository, tokenVersionCache,
+                validateTokenCache, customUserDetailsService, 3_600_000L, 2, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void synchronize_pagesThroughChangesAndEvictsCachedValidations() {
+        LocalDateTime changedAt = LocalDateTime.now().minusMinutes(1);
+        UserTokenVersion first = new UserTokenVersion(UUID.randomUUID(), "first", 1, changedAt);
+        UserTokenVersion second = new UserTokenVersion(UUID.randomUUID(), "second", 2, changedAt);
+        UserTokenVersion third = new UserTokenVersion(UUID.randomUUID(), "third", 1,
+                changedAt.plusSeconds(1));
+        when(authUserRepository.findTokenVersionsChangedAfter(any(), any(), any(Pageable.class)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+
+        assertEquals(3, tokenVersionService.synchronize());
+
+        verify(authUserRepository).findTokenVersionsChangedAfter(eq(changedAt),
+                eq(second.getUserId()), any(Pageable.class));
+        assertEquals(2, tokenVersionCache.version(second.getUserId()));
+        verify(validateTokenCache).evictUser("first");
+        verify(validateTokenCache).evictUser("third");
+        verify(customUserDetailsService).evictUser("first");
+        verify(customUserDetailsService).evictUser("second");
+        verify(customUserDetailsService).evictUser("third");
+    }
+
+    @Test
+    void synchronize_whenVersionAlreadyKnown_keepsCachedValidations() {
+        UUID userId = UUID.randomUUID();
+        tokenVersionCache.onAuthUserChanged(new AuthUserChangedEvent(userId, "user", 1));
+        when(authUserRepository.findTokenVersionsChangedAfter(any(), any(), any(Pageable.class)))
+                .thenReturn(List.of(new UserTokenVersion(userId, "user", 1, LocalDateTime.now())));
+
+        assertEquals(0, tokenVersionService.synchronize());
+
+        verify(validateTokenCache, never()).evictUser("user");
+    }
+
+    @Test
+    void synchronize_resumesFromNewestStoredChangeMinusOverlap() {
+        LocalDateTime changedAt = LocalDateTime.of(2020, 1, 1, 12, 0);
+        when(authUserRepository.findTokenVersionsChangedAfter(any(), any(), any(Pageable.class)))
+                .thenReturn(List.of(new UserTokenVersion(UUID.randomUUID(), "user", 1, changedAt)))
+                .thenReturn(List.of());
+
+        tokenVersionService.synchronize();
+        tokenVersionService.synchronize();
+        tokenVersionService.synchronize();
+
+        verify(authUserRepository, times(2)).findTokenVersionsChangedAfter(
+                eq(changedAt.minusSeconds(5)), any(), any(Pageable.class));
+    }
+
+    @Test
+    void evictExpired_dropsVersionsOlderThanRefreshTokenLifetime() {
+        UUID userId = UUID.randomUUID();
+        tokenVersionCache.update(userId, 1, Instant.now().minus(Duration.ofHours(2)));
+
+        assertEquals(1, tokenVersionService.evictExpired());
+
+        assertEquals(0, tokenVersionCache.version(userId));
+    }
+}
@@ -0,0 +1,170 @@
+package com.innowise.authservice.service.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.innowise.authservice.model.entity.type.AccountStatus;
+import com.innowise.authservice.model.entity.type.Role;
+import com.innowise.authservice.model.entity.type.TokenType;
+import com.innowise.authservice.model.token.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class HmacJwtCodecTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final String HS512_SECRET =
+            "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    private MockEnvironment environment;
+    private JwtKeyring jwtKeyring;
+    private HmacJwtCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment().withProperty("jwt.secret", SECRET);
+        jwtKeyring = new JwtKeyring(environment);
+        codec = new HmacJwtCodec(jwtKeyring);
+    }
+
+    @Test
+    void encode_thenDecode_returnsAllClaims() {
+        VerifiedToken claims = claims("user \"quoted\" é");
+
+        String token = codec.encode(jwtKeyring.signingKey(), claims, new Date());
+        VerifiedToken decoded = codec.tryDecode(token);
+
+        assertEquals(claims, decoded);
+    }
+
+    @Test
+    void encode_producesTokenAcceptedByJjwt() {
+        VerifiedToken claims = claims("user");
+
+        String token = codec.encode(jwtKeyring.signingKey(), claims, new Date());
+        var body = Jwts.parserBuilder()
+                .setSigningKey(jwtKeyring.signingKey().getVerificationKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+
+        assertEquals("user", body.getSubject());
+        assertEquals(claims.getUserId().toString(), body.get("userId", String.class));
+        assertEquals("ACCESS", body.get("tokenType", String.class));
+    }
+
+    @Test
+    void tryDecode_readsTokensMintedByJjwt() {
+        UUID userId = UUID.randomUUID();
+        String token = Jwts.builder()
+                .setHeaderParam("kid", "default")
+                .setSubject("user")
+                .claim("userId", userId)
+                .claim("role", "ADMIN")
+                .claim("tokenType", "REFRESH")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(jwtKeyring.signingKey().getSigningKey(), SignatureAlgorithm.HS256)
+                .compact();
+
+        VerifiedToken decoded = codec.tryDecode(token);
+
+        assertNotNull(decoded);
+        assertEquals(userId, decoded.getUserId());
+        assertEquals(Role.ADMIN, decoded.getRole());
+        assertEquals(TokenType.REFRESH, decoded.getTokenType());
+        assertFalse(decoded.isSelfContained());
+    }
+
+    @Test
+    void tryDecode_supportsHs512Keys() {
+        environment.setProperty("jwt.keys[0].kid", "hs512");
+        environment.setProperty("jwt.keys[0].algorithm", "HS512");
+        environment.setProperty("jwt.keys[0].secret", HS512_SECRET);
+        environment.setProperty("jwt.signing-key-id", "hs512");
+        jwtKeyring.reload();
+
+        String token = codec.encode(jwtKeyring.signingKey(), claims("user"), new Date());
+
+        assertTrue(codec.canEncode(jwtKeyring.signingKey()));
+        assertEquals("user", codec.tryDecode(token).getSubject());
+    }
+
+    @Test
+    void tryDecode_rejectsTamperedPayload() {
+        String token = codec.encode(jwtKeyring.signingKey(), claims("user"), new Date());
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("USER", "ADMIN");
+        String tampered = parts[0] + "."
+                + Base64.getUrlEncoder().withoutPadding()
+                        .encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + parts[2];
+
+        assertThrows(JwtException.class, () -> codec.tryDecode(tampered));
+    }
+
+    @Test
+    void tryDecode_rejectsMalformedTokensStructurally() {
+        String token = codec.encode(jwtKeyring.signingKey(), claims("user"), new Date());
+
+        assertThrows(JwtException.class, () -> codec.tryDecode("not-a-token"));
+        assertThrows(JwtException.class, () -> codec.tryDecode(token + ".extra"));
+        assertThrows(JwtException.class, () -> codec.tryDecode(token.substring(0, token.length() - 1)));
+        assertThrows(JwtException.class, () -> codec.tryDecode(token.replaceFirst("\\.", ".*")));
+        assertThrows(JwtException.class, () -> codec.tryDecode("a".repeat(HmacJwtCodec.MAX_TOKEN_LENGTH + 1)));
+    }
+
+    @Test
+    void tryDecode_rejectsExpiredToken() {
+        VerifiedToken expired = VerifiedToken.builder()
+                .subject("user")
+                .tokenType(TokenType.ACCESS)
+                .expiresAt(Instant.now().minusSeconds(5))
+                .build();
+
+        String token = codec.encode(jwtKeyring.signingKey(), expired, new Date());
+
+        assertThrows(JwtException.class, () -> codec.tryDecode(token));
+    }
+
+    @Test
+    void tryDecode_returnsNullForForeignHeader() {
+        String token = Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .setSubject("user")
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"),
+                        SignatureAlgorithm.HS256)
+                .compact();
+
+        assertNull(codec.tryDecode(token));
+    }
+
+    private VerifiedToken claims(String subject) {
+        return VerifiedToken.builder()
+                .subject(subject)
+                .userId(UUID.randomUUID())
+                .email("user@example.com")
+                .role(Role.USER)
+                .accountStatus(AccountStatus.ACTIVE)
+                .tokenType(TokenType.ACCESS)
+                .expiresAt(Instant.now().plusSeconds(60).truncatedTo(ChronoUnit.SECONDS))
+                .build();
+    }
+}
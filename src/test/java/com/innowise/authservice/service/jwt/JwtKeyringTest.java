@@ -0,0 +1,62 @@
+package com.innowise.authservice.service.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+
+class JwtKeyringTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final String ROTATED_SECRET = "fedcba9876543210fedcba9876543210";
+
+    @TempDir
+    private Path directory;
+
+    private Path keyringFile;
+    private JwtKeyring jwtKeyring;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        keyringFile = Files.createFile(directory.resolve("keyring.yaml"));
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("jwt.secret", SECRET)
+                .withProperty("jwt.keyring-file", keyringFile.toUri().toString());
+        jwtKeyring = new JwtKeyring(environment);
+    }
+
+    @Test
+    void reload_picksUpKeysAddedToKeyringFile() throws IOException {
+        assertEquals("default", jwtKeyring.signingKey().getKid());
+
+        Files.writeString(keyringFile, """
+                jwt:
+                  signing-key-id: rotated
+                  keys:
+                    - kid: rotated
+                      secret: %s
+                """.formatted(ROTATED_SECRET));
+        jwtKeyring.reload();
+
+        assertEquals("rotated", jwtKeyring.signingKey().getKid());
+        assertEquals(Set.of("default", "rotated"), jwtKeyring.verificationKeyIds());
+    }
+
+    @Test
+    void reload_whenKeyringFileIsInvalid_keepsCurrentKeys() throws IOException {
+        Files.writeString(keyringFile, """
+                jwt:
+                  signing-key-id: missing
+                """);
+
+        assertThrows(IllegalStateException.class, () -> jwtKeyring.reload());
+        assertEquals("default", jwtKeyring.signingKey().getKid());
+    }
+}
@@ -0,0 +1,84 @@
+package com.innowise.authservice.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.LongBuffer;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_neverMissesInsertedValues() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(BloomFilter.hash("user-" + i));
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain(BloomFilter.hash("user-" + i)));
+        }
+    }
+
+    @Test
+    void mightContain_keepsFalsePositivesNearConfiguredRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(BloomFilter.hash("user-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(BloomFilter.hash("other-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.02);
+    }
+
+    @Test
+    void put_reportsWhetherAnyBitChanged() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+        long hash = BloomFilter.hash("user");
+
+        assertTrue(filter.put(hash));
+        assertFalse(filter.put(hash));
+    }
+
+    @Test
+    void constructor_sizesFilterFromExpectedInsertions() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        assertEquals(9_600, filter.bitSize());
+        assertEquals(7, filter.hashFunctions());
+    }
+
+    @Test
+    void emptyFilter_containsNothing() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        assertFalse(filter.mightContain(BloomFilter.hash("user")));
+        assertEquals(0.0, filter.expectedFalsePositiveRate());
+    }
+
+    @Test
+    void readFrom_restoresFilterWrittenByWriteTo() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        for (int i = 0; i < 500; i++) {
+            filter.put(BloomFilter.hash("user-" + i));
+        }
+        LongBuffer buffer = LongBuffer.allocate(filter.wordCount());
+
+        filter.writeTo(buffer);
+        BloomFilter restored = BloomFilter.readFrom(buffer.flip(), filter.bitSize(),
+                filter.hashFunctions());
+
+        for (int i = 0; i < 500; i++) {
+            assertTrue(restored.mightContain(BloomFilter.hash("user-" + i)));
+        }
+        assertEquals(filter.expectedFalsePositiveRate(), restored.expectedFalsePositiveRate());
+    }
+}
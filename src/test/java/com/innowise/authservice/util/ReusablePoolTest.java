@@ -0,0 +1,68 @@
+package com.innowise.authservice.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class ReusablePoolTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final ReusablePool<Object> pool = new ReusablePool<>(() -> {
+        created.incrementAndGet();
+        return new Object();
+    }, 1);
+
+    @Test
+    void acquire_onPlatformThread_reusesThreadLocalInstance() {
+        Object first = pool.acquire();
+        pool.release(first);
+        Object second = pool.acquire();
+
+        assertSame(first, second);
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void acquire_onVirtualThreads_sharesReleasedInstancesAcrossThreads() throws InterruptedException {
+        AtomicReference<Object> first = new AtomicReference<>();
+        AtomicReference<Object> second = new AtomicReference<>();
+
+        Thread.ofVirtual().start(() -> {
+            first.set(pool.acquire());
+            pool.release(first.get());
+        }).join();
+        Thread.ofVirtual().start(() -> {
+            second.set(pool.acquire());
+            pool.release(second.get());
+        }).join();
+
+        assertSame(first.get(), second.get());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void release_onVirtualThreads_dropsInstancesBeyondCapacity() throws InterruptedException {
+        AtomicReference<Object> survivor = new AtomicReference<>();
+        AtomicReference<Object> reacquired = new AtomicReference<>();
+
+        Thread.ofVirtual().start(() -> {
+            Object kept = pool.acquire();
+            Object dropped = pool.acquire();
+            assertNotSame(kept, dropped);
+            pool.release(kept);
+            pool.release(dropped);
+            survivor.set(kept);
+        }).join();
+        Thread.ofVirtual().start(() -> {
+            reacquired.set(pool.acquire());
+            pool.acquire();
+        }).join();
+
+        assertSame(survivor.get(), reacquired.get());
+        assertEquals(3, created.get());
+    }
+}
@@ -0,0 +1,71 @@
+package com.innowise.authservice.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000_000L);
+    }
+
+    @Test
+    void tryAcquire_allowsBurstUpToCapacityThenReportsWait() {
+        TokenBucketRateLimiter limiter = limiter(3, 1000);
+
+        assertEquals(0, limiter.tryAcquire("user"));
+        assertEquals(0, limiter.tryAcquire("user"));
+        assertEquals(0, limiter.tryAcquire("user"));
+
+        assertEquals(Duration.ofSeconds(20).toNanos(), limiter.tryAcquire("user"));
+        assertEquals(0, limiter.tryAcquire("other"));
+    }
+
+    @Test
+    void tryAcquire_refillsOneTokenPerInterval() {
+        TokenBucketRateLimiter limiter = limiter(2, 1000);
+        limiter.tryAcquire("user");
+        limiter.tryAcquire("user");
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertEquals(0, limiter.tryAcquire("user"));
+        assertTrue(limiter.tryAcquire("user") > 0);
+    }
+
+    @Test
+    void evictIdle_dropsOnlyRefilledBuckets() {
+        TokenBucketRateLimiter limiter = limiter(2, 1000);
+        limiter.tryAcquire("idle");
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        limiter.tryAcquire("active");
+
+        assertEquals(1, limiter.evictIdle());
+
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void tryAcquire_whenStripeFullOfActiveBuckets_admitsNewKeyByEvictingLeastLoaded() {
+        TokenBucketRateLimiter limiter = limiter(2, 2);
+        limiter.tryAcquire("light");
+        limiter.tryAcquire("heavy");
+        limiter.tryAcquire("heavy");
+
+        assertEquals(0, limiter.tryAcquire("new"));
+        assertTrue(limiter.tryAcquire("heavy") > 0);
+        assertEquals(2, limiter.size());
+    }
+
+    private TokenBucketRateLimiter limiter(int capacity, int maxKeys) {
+        return new TokenBucketRateLimiter(capacity, Duration.ofMinutes(1), maxKeys, 1, clock::get);
+    }
+}